@@ -38,4 +38,12 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+
+    // benchmarks are skipped unless requested: ./gradlew test -Pbenchmark --tests '*Benchmark*'
+    val benchmark = providers.gradleProperty("benchmark").isPresent
+    systemProperty("benchmark", benchmark)
+    if (benchmark) {
+        maxHeapSize = "4g"
+        testLogging.showStandardStreams = true
+    }
 }
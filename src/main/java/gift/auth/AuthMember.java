@@ -0,0 +1,11 @@
+package gift.auth;
+
+/**
+ * Lightweight principal for {@link LoginMember} parameters that only need to know who is calling.
+ * Handlers that need the point balance or the Kakao token take a {@link gift.member.Member} instead.
+ *
+ * @param id           the member id
+ * @param tokenVersion the token version the request was authenticated with
+ */
+public record AuthMember(Long id, int tokenVersion) {
+}
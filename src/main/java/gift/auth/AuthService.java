@@ -1,6 +1,9 @@
 package gift.auth;
 
+import gift.common.ErrorCode;
+import gift.common.InvalidRequestException;
 import gift.member.Member;
+import gift.member.MemberCache;
 import gift.member.MemberRepository;
 import org.springframework.stereotype.Service;
 
@@ -8,31 +11,55 @@ import org.springframework.stereotype.Service;
 public class AuthService {
     private final MemberRepository memberRepository;
     private final JwtProvider jwtProvider;
+    private final MemberCache memberCache;
+    private final PasswordHasher passwordHasher;
 
-    public AuthService(MemberRepository memberRepository, JwtProvider jwtProvider) {
+    public AuthService(
+        MemberRepository memberRepository,
+        JwtProvider jwtProvider,
+        MemberCache memberCache,
+        PasswordHasher passwordHasher
+    ) {
         this.memberRepository = memberRepository;
         this.jwtProvider = jwtProvider;
+        this.memberCache = memberCache;
+        this.passwordHasher = passwordHasher;
     }
 
     public TokenResponse register(String email, String password) {
         if (memberRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email is already registered.");
+            throw new InvalidRequestException(ErrorCode.DUPLICATE_EMAIL, "Email is already registered.");
         }
 
-        final Member member = memberRepository.save(new Member(email, password));
-        final String token = jwtProvider.createToken(member.getEmail());
+        final Member member = memberRepository.save(new Member(email, passwordHasher.hash(password)));
+        memberCache.evict(member.getId());
+        final String token = jwtProvider.createToken(member.getId(), member.getTokenVersion());
         return new TokenResponse(token);
     }
 
     public TokenResponse login(String email, String password) {
-        final Member member = memberRepository.findByEmail(email)
-            .orElseThrow(() -> new IllegalArgumentException("Invalid email or password."));
+        final Member member = memberRepository.findByEmail(email).orElse(null);
 
-        if (member.getPassword() == null || !member.getPassword().equals(password)) {
-            throw new IllegalArgumentException("Invalid email or password.");
+        // unknown emails and passwordless accounts still pay for one hash, so response time does not reveal them
+        final String stored = member == null || member.getPassword() == null
+            ? passwordHasher.dummyHash()
+            : member.getPassword();
+        if (!passwordHasher.matches(password, stored) || member == null || member.getPassword() == null) {
+            throw new InvalidRequestException(ErrorCode.INVALID_CREDENTIALS, "Invalid email or password.");
         }
+        upgradePasswordIfNeeded(member, password);
 
-        final String token = jwtProvider.createToken(member.getEmail());
+        final String token = jwtProvider.createToken(member.getId(), member.getTokenVersion());
         return new TokenResponse(token);
     }
+
+    // the plaintext is only available right after it was verified, so this is where legacy passwords get hashed
+    private void upgradePasswordIfNeeded(Member member, String password) {
+        if (!passwordHasher.needsRehash(member.getPassword())) {
+            return;
+        }
+        if (memberRepository.upgradePassword(member.getId(), member.getPassword(), passwordHasher.hash(password)) > 0) {
+            memberCache.evict(member.getId());
+        }
+    }
 }
@@ -1,32 +1,61 @@
 package gift.auth;
 
 import gift.member.Member;
-import gift.member.MemberRepository;
+import gift.member.MemberCache;
 import org.springframework.stereotype.Component;
 
 /**
  * Resolves the authenticated member from an Authorization header.
+ * Token versions come from {@link MemberCache}, so a repeated token costs no database round trip.
+ * A token is accepted only while its version matches the member's current token version; revoking tokens or
+ * deleting the member through another instance takes effect here within {@code member.cache.token-version-ttl}.
+ * Rejections are plain {@code null} results; nothing on this path throws for a bad token.
  *
  * @author brian.kim
  * @since 1.0
  */
 @Component
 public class AuthenticationResolver {
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtProvider jwtProvider;
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
 
-    public AuthenticationResolver(JwtProvider jwtProvider, MemberRepository memberRepository) {
+    public AuthenticationResolver(JwtProvider jwtProvider, MemberCache memberCache) {
         this.jwtProvider = jwtProvider;
-        this.memberRepository = memberRepository;
+        this.memberCache = memberCache;
+    }
+
+    public AuthMember authenticate(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        final String token = authorization.startsWith(BEARER_PREFIX)
+            ? authorization.substring(BEARER_PREFIX.length())
+            : authorization;
+        final TokenVerification verification = jwtProvider.verify(token);
+        if (!verification.isValid()) {
+            return null;
+        }
+
+        final TokenClaims claims = verification.claims();
+        if (claims.isLegacy()) {
+            return memberCache.findByEmail(claims.subject())
+                .filter(member -> memberCache.findTokenVersion(member.getId()).orElse(-1) == 0)
+                .map(member -> new AuthMember(member.getId(), 0))
+                .orElse(null);
+        }
+        return memberCache.findTokenVersion(claims.memberId())
+            .filter(version -> version.equals(claims.tokenVersion()))
+            .map(version -> new AuthMember(claims.memberId(), version))
+            .orElse(null);
     }
 
     public Member extractMember(String authorization) {
-        try {
-            final String token = authorization.replace("Bearer ", "");
-            final String email = jwtProvider.getEmail(token);
-            return memberRepository.findByEmail(email).orElse(null);
-        } catch (Exception e) {
+        final AuthMember authMember = authenticate(authorization);
+        if (authMember == null) {
             return null;
         }
+        return memberCache.findById(authMember.id()).orElse(null);
     }
 }
@@ -1,7 +1,10 @@
 package gift.auth;
 
-public class ForbiddenException extends RuntimeException {
+import gift.common.DomainException;
+import gift.common.ErrorCode;
+
+public class ForbiddenException extends DomainException {
     public ForbiddenException(String message) {
-        super(message);
+        super(ErrorCode.FORBIDDEN, message);
     }
 }
@@ -1,62 +1,157 @@
 package gift.auth;
 
+import gift.common.BoundedCache;
+import gift.common.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 /**
  * Provides JWT token creation and validation.
+ * <p>
+ * Tokens carry the member id as subject and the member's token version in the {@value #VERSION_CLAIM} claim.
+ * The parser is immutable and thread-safe, so it is built once. Tokens that passed signature verification are
+ * remembered by their SHA-256 digest together with their claims and expiry, which lets repeated requests with
+ * the same token skip the HMAC check and claim parsing. A remembered token is still rejected once its
+ * {@code exp} has passed. Rejected tokens are remembered as well, so a client that keeps replaying a forged or
+ * expired token does not make the parser build and throw an exception on every request.
  *
  * @author brian.kim
  * @since 1.0
  */
 @Component
 public class JwtProvider {
+    public static final String VERSION_CLAIM = "ver";
+
     private final SecretKey key;
     private final long expiration;
+    private final JwtParser parser;
+    private final BoundedCache<String, VerifiedToken> verifiedTokens;
+    private final BoundedCache<String, TokenVerification> rejectedTokens;
 
     public JwtProvider(
         @Value("${jwt.secret}") String secret,
-        @Value("${jwt.expiration}") long expiration
+        @Value("${jwt.expiration}") long expiration,
+        @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.expiration = expiration;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        // no token outlives the configured expiration, so it bounds every entry's lifetime
+        this.verifiedTokens = new BoundedCache<>(verifiedCacheSize, Duration.ofMillis(expiration));
+        this.rejectedTokens = new BoundedCache<>(verifiedCacheSize, Duration.ofMillis(expiration));
     }
 
     /**
-     * Extracts the email (subject) from a signed JWT token.
+     * Verifies a signed JWT token without throwing for malformed, forged or expired tokens.
      *
      * @param token the JWT token string
-     * @return the email stored in the token's subject claim
+     * @return the verification outcome, carrying the subject and token version when the token is valid
      */
-    public String getEmail(String token) {
-        return Jwts.parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getSubject();
+    public TokenVerification verify(String token) {
+        if (!isCompactJws(token)) {
+            return TokenVerification.INVALID;
+        }
+        final String digest = digest(token);
+        final Optional<VerifiedToken> cached = verifiedTokens.get(digest);
+        if (cached.isPresent()) {
+            if (cached.get().expiresAt() > System.currentTimeMillis()) {
+                return TokenVerification.valid(cached.get().claims());
+            }
+            verifiedTokens.invalidate(digest);
+            return reject(digest, TokenVerification.EXPIRED);
+        }
+        final Optional<TokenVerification> rejected = rejectedTokens.get(digest);
+        if (rejected.isPresent()) {
+            return rejected.get();
+        }
+
+        final Claims payload;
+        final TokenClaims claims;
+        try {
+            payload = parser.parseSignedClaims(token).getPayload();
+            claims = new TokenClaims(payload.getSubject(), payload.get(VERSION_CLAIM, Integer.class));
+        } catch (ExpiredJwtException e) {
+            return reject(digest, TokenVerification.EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            return reject(digest, TokenVerification.INVALID);
+        }
+        final Date expiresAt = payload.getExpiration();
+        if (expiresAt != null) {
+            verifiedTokens.put(digest, new VerifiedToken(claims, expiresAt.getTime()));
+        }
+        return TokenVerification.valid(claims);
     }
 
     /**
-     * Creates a new signed JWT token for the given email.
+     * Creates a new signed JWT token for the given member.
      *
-     * @param email the email to store as the token's subject
+     * @param memberId     the member id to store as the token's subject
+     * @param tokenVersion the member's current token version
      * @return the compact JWT token string
      */
-    public String createToken(String email) {
+    public String createToken(Long memberId, int tokenVersion) {
         final Date now = new Date();
         final Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-            .subject(email)
+            .subject(String.valueOf(memberId))
+            .claim(VERSION_CLAIM, tokenVersion)
             .issuedAt(now)
             .expiration(expiryDate)
             .signWith(key)
             .compact();
     }
+
+    public CacheStats verifiedTokenStats() {
+        return verifiedTokens.stats();
+    }
+
+    private TokenVerification reject(String digest, TokenVerification verification) {
+        rejectedTokens.put(digest, verification);
+        return verification;
+    }
+
+    // header.payload.signature with no whitespace; anything else cannot be one of our tokens
+    private static boolean isCompactJws(String token) {
+        if (token == null || token.isEmpty()) {
+            return false;
+        }
+        int dots = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                dots++;
+            } else if (Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return dots == 2;
+    }
+
+    private static String digest(String token) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(TokenClaims claims, long expiresAt) {
+    }
 }
@@ -1,6 +1,7 @@
 package gift.auth;
 
 import gift.member.Member;
+import gift.member.MemberCache;
 import gift.member.MemberRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -17,17 +18,20 @@ public class KakaoAuthService {
     private final KakaoLoginClient kakaoLoginClient;
     private final MemberRepository memberRepository;
     private final JwtProvider jwtProvider;
+    private final MemberCache memberCache;
 
     public KakaoAuthService(
         KakaoLoginProperties properties,
         KakaoLoginClient kakaoLoginClient,
         MemberRepository memberRepository,
-        JwtProvider jwtProvider
+        JwtProvider jwtProvider,
+        MemberCache memberCache
     ) {
         this.properties = properties;
         this.kakaoLoginClient = kakaoLoginClient;
         this.memberRepository = memberRepository;
         this.jwtProvider = jwtProvider;
+        this.memberCache = memberCache;
     }
 
     public String buildLoginUrl() {
@@ -49,8 +53,9 @@ public class KakaoAuthService {
             .orElseGet(() -> new Member(email));
         member.updateKakaoAccessToken(kakaoToken.accessToken());
         memberRepository.save(member);
+        memberCache.evict(member.getId());
 
-        String token = jwtProvider.createToken(member.getEmail());
+        String token = jwtProvider.createToken(member.getId(), member.getTokenVersion());
         return new TokenResponse(token);
     }
 }
@@ -8,6 +8,10 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/*
+ * Resolves @LoginMember parameters. An AuthMember parameter is answered from the token and the member cache;
+ * a Member parameter additionally hands the handler the full member, for the paths that need the Kakao token.
+ */
 @Component
 public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
     private final AuthenticationResolver authenticationResolver;
@@ -19,7 +23,8 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(LoginMember.class)
-            && Member.class.isAssignableFrom(parameter.getParameterType());
+            && (parameter.getParameterType() == AuthMember.class
+            || Member.class.isAssignableFrom(parameter.getParameterType()));
     }
 
     @Override
@@ -34,7 +39,9 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
             throw new UnauthorizedException("Authorization header is required.");
         }
 
-        Member member = authenticationResolver.extractMember(authorization);
+        Object member = parameter.getParameterType() == AuthMember.class
+            ? authenticationResolver.authenticate(authorization)
+            : authenticationResolver.extractMember(authorization);
         if (member == null) {
             throw new UnauthorizedException("Invalid or expired token.");
         }
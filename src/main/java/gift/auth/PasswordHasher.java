@@ -0,0 +1,234 @@
+package gift.auth;
+
+import gift.common.DomainException;
+import gift.common.ErrorCode;
+import gift.common.InvalidRequestException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * PBKDF2-HMAC-SHA256 password hashing on a dedicated, bounded pool.
+ * Hashing is deliberately expensive, so it never runs on request threads: at most `threads` hashes run at once,
+ * up to `queue-capacity` more wait in line, and anything beyond that is turned away at once with 503 instead of
+ * piling up. Callers wait at most `max-wait` for their turn. The iteration count is calibrated at startup so that
+ * one hash costs about `target-latency` on this machine.
+ * Stored values look like pbkdf2-sha256$<iterations>$<salt>$<hash>; anything else is a legacy plaintext password.
+ */
+@Component
+public class PasswordHasher {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private static final String PREFIX = "pbkdf2-sha256$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final int PROBE_ITERATIONS = 10_000;
+
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final int iterations;
+    private final String dummyHash;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+
+    public PasswordHasher(PasswordHashingProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            properties.threads(), properties.threads(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.maxWait = properties.maxWait();
+        this.iterations = calibrate(properties.targetLatency(), properties.minIterations(), properties.maxIterations());
+        byte[] salt = new byte[SALT_BYTES];
+        byte[] secret = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        random.nextBytes(secret);
+        this.dummyHash = encode(iterations, salt, derive(Base64.getEncoder().encodeToString(secret), salt, iterations));
+        log.info("Password hashing calibrated to {} PBKDF2 iterations for a target of {} ms",
+            iterations, properties.targetLatency().toMillis());
+    }
+
+    public String hash(String password) {
+        if (password == null || password.isBlank()) {
+            throw new InvalidRequestException("Password must not be blank.");
+        }
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = submit(() -> derive(password, salt, iterations));
+        return encode(iterations, salt, hash);
+    }
+
+    public boolean matches(String password, String stored) {
+        if (password == null || password.isEmpty() || stored == null) {
+            return false;
+        }
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(
+                password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        int storedIterations;
+        byte[] salt;
+        byte[] expected;
+        try {
+            storedIterations = Integer.parseInt(parts[0]);
+            salt = Base64.getDecoder().decode(parts[1]);
+            expected = Base64.getDecoder().decode(parts[2]);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        byte[] actual = submit(() -> derive(password, salt, storedIterations));
+        return MessageDigest.isEqual(actual, expected);
+    }
+
+    // a hash of a random password nobody knows, checked in place of a missing account's hash
+    public String dummyHash() {
+        return dummyHash;
+    }
+
+    /*
+     * Plaintext is always replaced on the next successful login, and so are hashes more than a fifth cheaper than
+     * the current calibration. The slack keeps run-to-run calibration noise from rehashing everyone after a restart.
+     */
+    public boolean needsRehash(String stored) {
+        if (stored == null || !isHashed(stored)) {
+            return true;
+        }
+        int end = stored.indexOf('$', PREFIX.length());
+        try {
+            return end < 0 || Integer.parseInt(stored.substring(PREFIX.length(), end)) * 5L < iterations * 4L;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public static boolean isHashed(String stored) {
+        return stored.startsWith(PREFIX);
+    }
+
+    public PasswordHashingStats stats() {
+        long done = completed.sum();
+        return new PasswordHashingStats(
+            iterations,
+            executor.getCorePoolSize(),
+            executor.getActiveCount(),
+            executor.getQueue().size(),
+            done,
+            rejected.sum(),
+            done == 0 ? 0.0 : queueNanos.sum() / 1_000_000.0 / done,
+            maxQueueNanos.get() / 1_000_000.0,
+            done == 0 ? 0.0 : hashNanos.sum() / 1_000_000.0 / done
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private byte[] submit(Callable<byte[]> task) {
+        long submittedAt = System.nanoTime();
+        Future<byte[]> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                long waited = startedAt - submittedAt;
+                queueNanos.add(waited);
+                maxQueueNanos.accumulateAndGet(waited, Math::max);
+                try {
+                    return task.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed.", e.getCause());
+        }
+    }
+
+    private static DomainException busy() {
+        return new DomainException(ErrorCode.PASSWORD_HASHING_BUSY, "Too many sign-in requests. Try again shortly.");
+    }
+
+    // scales a timed probe to the target latency; the best of a few runs filters out JIT warm-up and noise
+    static int calibrate(Duration targetLatency, int minIterations, int maxIterations) {
+        byte[] salt = new byte[SALT_BYTES];
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long startedAt = System.nanoTime();
+            derive("calibration", salt, PROBE_ITERATIONS);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        double nanosPerIteration = (double) Math.max(best, 1) / PROBE_ITERATIONS;
+        long target = (long) (targetLatency.toNanos() / nanosPerIteration);
+        long rounded = target / 1_000 * 1_000;
+        return (int) Math.max(minIterations, Math.min(maxIterations, rounded));
+    }
+
+    private static String encode(int iterations, byte[] salt, byte[] hash) {
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package gift.auth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * threads and queue-capacity bound how much CPU hashing can take and how many callers may wait for it;
+ * target-latency is what one hash should cost on this machine, clamped to [min-iterations, max-iterations].
+ */
+@ConfigurationProperties(prefix = "auth.password")
+public record PasswordHashingProperties(
+    @DefaultValue("2") int threads,
+    @DefaultValue("64") int queueCapacity,
+    @DefaultValue("5s") Duration maxWait,
+    @DefaultValue("100ms") Duration targetLatency,
+    @DefaultValue("100000") int minIterations,
+    @DefaultValue("2000000") int maxIterations
+) {
+    public PasswordHashingProperties {
+        if (threads <= 0 || queueCapacity <= 0 || minIterations <= 0 || maxIterations < minIterations) {
+            throw new IllegalArgumentException(
+                "auth.password threads, queue-capacity and iterations must be positive, with min-iterations <= max-iterations.");
+        }
+    }
+}
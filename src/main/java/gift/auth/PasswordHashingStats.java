@@ -0,0 +1,14 @@
+package gift.auth;
+
+public record PasswordHashingStats(
+    int iterations,
+    int threads,
+    int activeThreads,
+    int queued,
+    long completed,
+    long rejected,
+    double averageQueueMillis,
+    double maxQueueMillis,
+    double averageHashMillis
+) {
+}
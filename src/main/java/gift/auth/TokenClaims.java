@@ -0,0 +1,20 @@
+package gift.auth;
+
+/**
+ * Claims of a verified token.
+ * Current tokens carry the member id as subject plus the member's token version. Tokens issued before that
+ * carry the email as subject and no version; they are still accepted and treated as version 0.
+ *
+ * @param subject      the subject claim: a member id, or an email for legacy tokens
+ * @param tokenVersion the token version claim, or {@code null} for legacy tokens
+ */
+public record TokenClaims(String subject, Integer tokenVersion) {
+
+    public boolean isLegacy() {
+        return tokenVersion == null;
+    }
+
+    public Long memberId() {
+        return Long.valueOf(subject);
+    }
+}
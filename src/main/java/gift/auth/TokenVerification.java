@@ -0,0 +1,27 @@
+package gift.auth;
+
+/**
+ * Outcome of verifying a token. Rejections are ordinary results rather than exceptions, because bad and
+ * expired tokens are routine traffic.
+ *
+ * @param status the verification outcome
+ * @param claims the token's claims, present only when the status is {@link Status#VALID}
+ */
+public record TokenVerification(Status status, TokenClaims claims) {
+    static final TokenVerification EXPIRED = new TokenVerification(Status.EXPIRED, null);
+    static final TokenVerification INVALID = new TokenVerification(Status.INVALID, null);
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    static TokenVerification valid(TokenClaims claims) {
+        return new TokenVerification(Status.VALID, claims);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -1,7 +1,10 @@
 package gift.auth;
 
-public class UnauthorizedException extends RuntimeException {
+import gift.common.DomainException;
+import gift.common.ErrorCode;
+
+public class UnauthorizedException extends DomainException {
     public UnauthorizedException(String message) {
-        super(message);
+        super(ErrorCode.UNAUTHORIZED, message);
     }
 }
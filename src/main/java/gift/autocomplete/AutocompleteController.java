@@ -0,0 +1,34 @@
+package gift.autocomplete;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/*
+ * Suggests product and category names for a typed prefix.
+ * The prefix may be syllables ("맥북"), initial consonants ("ㅁㅂ") or a mix of both ("맥ㅂ").
+ */
+@RestController
+@RequestMapping("/api/products/autocomplete")
+public class AutocompleteController {
+    private final AutocompleteService autocompleteService;
+
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AutocompleteResponse>> autocomplete(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        List<AutocompleteResponse> suggestions = autocompleteService.suggest(prefix, size).stream()
+            .map(AutocompleteResponse::from)
+            .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+}
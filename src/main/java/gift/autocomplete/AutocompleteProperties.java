@@ -0,0 +1,10 @@
+package gift.autocomplete;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "autocomplete")
+public record AutocompleteProperties(
+    @DefaultValue("10") int topK
+) {
+}
@@ -0,0 +1,11 @@
+package gift.autocomplete;
+
+public record AutocompleteResponse(
+    SuggestionType type,
+    Long id,
+    String name
+) {
+    public static AutocompleteResponse from(Suggestion suggestion) {
+        return new AutocompleteResponse(suggestion.type(), suggestion.id(), suggestion.name());
+    }
+}
@@ -0,0 +1,84 @@
+package gift.autocomplete;
+
+import gift.category.CategoryRepository;
+import gift.popularity.ProductScore;
+import gift.popularity.ProductStatsRepository;
+import gift.product.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * Owns the autocomplete trie. Product and category writes push their names here, popularity flushes push
+ * product weights, and the trie is rebuilt from the database once the application is ready.
+ */
+@Service
+public class AutocompleteService {
+    private static final Logger log = LoggerFactory.getLogger(AutocompleteService.class);
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductStatsRepository productStatsRepository;
+    private final AutocompleteTrie trie;
+
+    public AutocompleteService(
+        ProductRepository productRepository,
+        CategoryRepository categoryRepository,
+        ProductStatsRepository productStatsRepository,
+        AutocompleteProperties properties
+    ) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.productStatsRepository = productStatsRepository;
+        this.trie = new AutocompleteTrie(properties.topK());
+    }
+
+    public List<Suggestion> suggest(String prefix, int size) {
+        return trie.suggest(prefix, size);
+    }
+
+    public void putProduct(Long id, String name) {
+        trie.put(SuggestionType.PRODUCT, id, name);
+    }
+
+    public void removeProduct(Long id) {
+        trie.remove(SuggestionType.PRODUCT, id);
+    }
+
+    public void putCategory(Long id, String name) {
+        trie.put(SuggestionType.CATEGORY, id, name);
+    }
+
+    public void removeCategory(Long id) {
+        trie.remove(SuggestionType.CATEGORY, id);
+    }
+
+    public void updateProductWeight(Long id, long weight) {
+        trie.updateWeight(SuggestionType.PRODUCT, id, weight);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        trie.rebuild(() -> {
+            List<AutocompleteTrie.Document> documents = new ArrayList<>();
+            // products are weighted by their flushed popularity score
+            Map<Long, Long> scores = productStatsRepository.findAllScores().stream()
+                .collect(Collectors.toMap(ProductScore::productId, ProductScore::score));
+            productRepository.findAllSearchDocuments().forEach(product -> documents.add(new AutocompleteTrie.Document(
+                SuggestionType.PRODUCT, product.id(), product.name(), scores.getOrDefault(product.id(), 0L))));
+            categoryRepository.findAll().forEach(category -> documents.add(
+                new AutocompleteTrie.Document(SuggestionType.CATEGORY, category.getId(), category.getName(), 0)));
+            return documents;
+        });
+        log.info("Autocomplete trie rebuilt: {} names in {} ms",
+            trie.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
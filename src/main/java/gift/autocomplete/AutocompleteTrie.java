@@ -0,0 +1,440 @@
+package gift.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/*
+ * Prefix index over catalog names, kept as two tries: one keyed by the normalized name and one by its
+ * choseong string ("맥북 프로" -> "맥북프로" and "ㅁㅂㅍㄹ"). Children are sorted char arrays searched by
+ * binary search. Every node also holds the top-k entries of its subtree by weight, so a pure syllable or pure
+ * choseong prefix is answered by one walk down the trie; mixed input such as "맥ㅂ" scans the choseong subtree.
+ * Writes keep the per-node lists current along the affected paths only.
+ */
+public class AutocompleteTrie {
+    private static final Comparator<Entry> RANK = Comparator
+        .comparingLong((Entry entry) -> -entry.weight)
+        .thenComparingInt(entry -> entry.key.length())
+        .thenComparing(entry -> entry.key)
+        .thenComparing(entry -> entry.type)
+        .thenComparingLong(entry -> entry.id);
+
+    private final int topK;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node names = new Node();
+    private Node initials = new Node();
+    private Map<EntryId, Entry> entries = new HashMap<>();
+    private List<Runnable> changesDuringRebuild;
+
+    public record Document(SuggestionType type, long id, String name, long weight) {
+    }
+
+    private record EntryId(SuggestionType type, long id) {
+    }
+
+    public AutocompleteTrie(int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("topK must be greater than zero.");
+        }
+        this.topK = topK;
+    }
+
+    public void put(SuggestionType type, long id, String name) {
+        write(() -> {
+            Entry previous = entries.get(new EntryId(type, id));
+            long weight = previous == null ? 0 : previous.weight;
+            removeEntry(type, id);
+            insertEntry(new Entry(type, id, name, weight), true);
+        });
+    }
+
+    public void remove(SuggestionType type, long id) {
+        write(() -> removeEntry(type, id));
+    }
+
+    public void updateWeight(SuggestionType type, long id, long weight) {
+        write(() -> {
+            Entry entry = entries.get(new EntryId(type, id));
+            if (entry == null || entry.weight == weight) {
+                return;
+            }
+            boolean increased = weight > entry.weight;
+            entry.weight = weight;
+            reorder(names, entry.key, entry, increased);
+            if (entry.hasInitials()) {
+                reorder(initials, entry.initials, entry, increased);
+            }
+        });
+    }
+
+    /*
+     * Builds new tries off-lock and recomputes every node's top-k bottom-up in one pass.
+     * Writes that arrive while the loader runs are replayed onto the new tries before they are swapped in.
+     */
+    public void rebuild(Supplier<List<Document>> loader) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        AutocompleteTrie built = null;
+        try {
+            AutocompleteTrie fresh = new AutocompleteTrie(topK);
+            for (Document document : loader.get()) {
+                fresh.insertEntry(new Entry(document.type(), document.id(), document.name(), document.weight()), false);
+            }
+            fresh.recomputeAll(fresh.names);
+            fresh.recomputeAll(fresh.initials);
+            built = fresh;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                List<Runnable> changes = changesDuringRebuild;
+                changesDuringRebuild = null;
+                if (built != null) {
+                    names = built.names;
+                    initials = built.initials;
+                    entries = built.entries;
+                    changes.forEach(Runnable::run);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        int size = Math.min(limit, topK);
+        if (normalized.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (!Hangul.containsConsonant(normalized)) {
+                return top(find(names, normalized), size);
+            }
+            String typedInitials = Hangul.initials(normalized);
+            Node node = find(initials, typedInitials);
+            if (typedInitials.equals(normalized)) {
+                return top(node, size);
+            }
+            return scan(node, normalized, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insertEntry(Entry entry, boolean maintainTop) {
+        if (entry.key.isEmpty()) {
+            return;
+        }
+        Entry previous = entries.put(new EntryId(entry.type, entry.id), entry);
+        if (previous != null) {
+            delete(names, previous.key, previous);
+            delete(initials, previous.initials, previous);
+        }
+        insert(names, entry.key, entry, maintainTop);
+        if (entry.hasInitials()) {
+            insert(initials, entry.initials, entry, maintainTop);
+        }
+    }
+
+    private void removeEntry(SuggestionType type, long id) {
+        Entry entry = entries.remove(new EntryId(type, id));
+        if (entry != null) {
+            delete(names, entry.key, entry);
+            delete(initials, entry.initials, entry);
+        }
+    }
+
+    private void insert(Node root, String key, Entry entry, boolean maintainTop) {
+        Node node = root;
+        if (maintainTop) {
+            node.offer(entry, topK);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            if (maintainTop) {
+                node.offer(entry, topK);
+            }
+        }
+        node.terminals = append(node.terminals, entry);
+    }
+
+    private void delete(Node root, String key, Entry entry) {
+        Node[] path = path(root, key);
+        if (path == null) {
+            return;
+        }
+        Node leaf = path[key.length()];
+        leaf.terminals = without(leaf.terminals, entry);
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (depth > 0 && node.isEmpty()) {
+                path[depth - 1].removeChild(key.charAt(depth - 1));
+            } else if (node.holds(entry)) {
+                node.recompute(topK);
+            }
+        }
+    }
+
+    private void reorder(Node root, String key, Entry entry, boolean increased) {
+        Node[] path = path(root, key);
+        if (path == null) {
+            return;
+        }
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (increased) {
+                node.offer(entry, topK);
+            } else if (node.holds(entry)) {
+                node.recompute(topK);
+            }
+        }
+    }
+
+    private void recomputeAll(Node node) {
+        for (Node child : node.children) {
+            recomputeAll(child);
+        }
+        node.recompute(topK);
+    }
+
+    private static Node[] path(Node root, String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return null;
+            }
+        }
+        return path;
+    }
+
+    private static Node find(Node root, String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static List<Suggestion> top(Node node, int size) {
+        if (node == null) {
+            return List.of();
+        }
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(size, node.top.length));
+        for (int i = 0; i < node.top.length && i < size; i++) {
+            suggestions.add(node.top[i].toSuggestion());
+        }
+        return suggestions;
+    }
+
+    // mixed syllable/choseong input cannot use the precomputed lists, so the matching subtree is filtered
+    private static List<Suggestion> scan(Node node, String prefix, int size) {
+        if (node == null) {
+            return List.of();
+        }
+        List<Entry> matches = new ArrayList<>();
+        List<Node> stack = new ArrayList<>();
+        stack.add(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.removeLast();
+            for (Entry entry : current.terminals) {
+                if (Hangul.matchesPrefix(entry.key, prefix)) {
+                    matches.add(entry);
+                }
+            }
+            stack.addAll(Arrays.asList(current.children));
+        }
+        return matches.stream()
+            .sorted(RANK)
+            .limit(size)
+            .map(Entry::toSuggestion)
+            .toList();
+    }
+
+    private static Entry[] append(Entry[] array, Entry entry) {
+        Entry[] grown = Arrays.copyOf(array, array.length + 1);
+        grown[array.length] = entry;
+        return grown;
+    }
+
+    private static Entry[] without(Entry[] array, Entry entry) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == entry) {
+                Entry[] shrunk = new Entry[array.length - 1];
+                System.arraycopy(array, 0, shrunk, 0, i);
+                System.arraycopy(array, i + 1, shrunk, i, array.length - i - 1);
+                return shrunk;
+            }
+        }
+        return array;
+    }
+
+    private static final class Entry {
+        private final SuggestionType type;
+        private final long id;
+        private final String name;
+        private final String key;
+        private final String initials;
+        private long weight;
+
+        Entry(SuggestionType type, long id, String name, long weight) {
+            this.type = type;
+            this.id = id;
+            this.name = name;
+            this.key = normalize(name);
+            this.initials = Hangul.initials(key);
+            this.weight = weight;
+        }
+
+        // only names with a consonant in their choseong form can match a query that contains one
+        boolean hasInitials() {
+            return Hangul.containsConsonant(initials);
+        }
+
+        Suggestion toSuggestion() {
+            return new Suggestion(type, id, name, weight);
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] terminals = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return terminals.length == 0 && children.length == 0;
+        }
+
+        boolean holds(Entry entry) {
+            for (Entry candidate : top) {
+                if (candidate == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // inserts or repositions the entry; only valid when its rank did not get worse
+        void offer(Entry entry, int topK) {
+            Entry[] current = holds(entry) ? without(top, entry) : top;
+            if (current.length == topK && RANK.compare(entry, current[topK - 1]) >= 0) {
+                return;
+            }
+            int insertAt = 0;
+            while (insertAt < current.length && RANK.compare(current[insertAt], entry) < 0) {
+                insertAt++;
+            }
+            int length = Math.min(current.length + 1, topK);
+            Entry[] updated = new Entry[length];
+            System.arraycopy(current, 0, updated, 0, insertAt);
+            updated[insertAt] = entry;
+            System.arraycopy(current, insertAt, updated, insertAt + 1, length - insertAt - 1);
+            top = updated;
+        }
+
+        // the subtree's best entries are among this node's terminals and its children's lists
+        void recompute(int topK) {
+            top = NO_ENTRIES;
+            for (Entry entry : terminals) {
+                offer(entry, topK);
+            }
+            for (Node child : children) {
+                for (Entry entry : child.top) {
+                    offer(entry, topK);
+                }
+            }
+        }
+    }
+}
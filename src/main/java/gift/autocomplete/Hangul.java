@@ -0,0 +1,59 @@
+package gift.autocomplete;
+
+/*
+ * Choseong (initial consonant) helpers for precomposed Hangul syllables (U+AC00..U+D7A3).
+ * Initials are returned as compatibility jamo (U+3131..U+314E), the characters users actually type.
+ */
+final class Hangul {
+    private static final char FIRST_SYLLABLE = '가';
+    private static final char LAST_SYLLABLE = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+
+    private Hangul() {
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= FIRST_SYLLABLE && c <= LAST_SYLLABLE;
+    }
+
+    static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    static char initialOf(char c) {
+        return isSyllable(c) ? INITIALS[(c - FIRST_SYLLABLE) / SYLLABLES_PER_INITIAL] : c;
+    }
+
+    static String initials(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = initialOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    static boolean containsConsonant(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isConsonant(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "맥ㅂ" matches "맥북": a typed consonant stands for any syllable that starts with it
+    static boolean matchesPrefix(String name, String prefix) {
+        if (prefix.length() > name.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            char typed = prefix.charAt(i);
+            char actual = name.charAt(i);
+            if (typed != actual && !(isConsonant(typed) && initialOf(actual) == typed)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,4 @@
+package gift.autocomplete;
+
+public record Suggestion(SuggestionType type, long id, String name, long weight) {
+}
@@ -0,0 +1,6 @@
+package gift.autocomplete;
+
+public enum SuggestionType {
+    PRODUCT,
+    CATEGORY
+}
@@ -1,12 +1,19 @@
 package gift.category;
 
+import gift.common.CollectionVersionListener;
+import gift.common.VersionedCollectionMember;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 
 @Entity
-public class Category {
+@EntityListeners(CollectionVersionListener.class)
+public class Category implements VersionedCollectionMember {
+    static final String COLLECTION_KEY = "categories";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -15,6 +22,9 @@ public class Category {
     private String imageUrl;
     private String description;
 
+    @Version
+    private long version;
+
     protected Category() {
     }
 
@@ -51,4 +61,13 @@ public class Category {
     public String getDescription() {
         return description;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String collectionKey() {
+        return COLLECTION_KEY;
+    }
 }
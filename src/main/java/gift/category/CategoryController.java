@@ -1,6 +1,8 @@
 package gift.category;
 
+import gift.common.JsonResponseCache;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,27 +10,31 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/categories")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final JsonResponseCache responseCache;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, JsonResponseCache responseCache) {
         this.categoryService = categoryService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getCategories() {
-        List<CategoryResponse> categories = categoryService.findAll().stream()
+    public ResponseEntity<byte[]> getCategories(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = JsonResponseCache.etag("categories", categoryService.collectionVersion());
+        return responseCache.respond(etag, ifNoneMatch, () -> categoryService.findAll().stream()
             .map(CategoryResponse::from)
-            .toList();
-        return ResponseEntity.ok(categories);
+            .toList());
     }
 
     @PostMapping
@@ -1,16 +1,28 @@
 package gift.category;
 
+import gift.autocomplete.AutocompleteService;
+import gift.common.CollectionVersion;
+import gift.common.CollectionVersions;
+import gift.common.ErrorCode;
+import gift.common.NotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.NoSuchElementException;
 
 @Service
 public class CategoryService {
     private final CategoryRepository categoryRepository;
-
-    public CategoryService(CategoryRepository categoryRepository) {
+    private final AutocompleteService autocompleteService;
+    private final CollectionVersions collectionVersions;
+
+    public CategoryService(
+        CategoryRepository categoryRepository,
+        AutocompleteService autocompleteService,
+        CollectionVersions collectionVersions
+    ) {
         this.categoryRepository = categoryRepository;
+        this.autocompleteService = autocompleteService;
+        this.collectionVersions = collectionVersions;
     }
 
     public List<Category> findAll() {
@@ -19,20 +31,29 @@ public class CategoryService {
 
     public Category findById(Long id) {
         return categoryRepository.findById(id)
-            .orElseThrow(() -> new NoSuchElementException("Category not found. id=" + id));
+            .orElseThrow(() -> new NotFoundException(ErrorCode.CATEGORY_NOT_FOUND, "Category not found. id=" + id));
+    }
+
+    public CollectionVersion collectionVersion() {
+        return collectionVersions.current(Category.COLLECTION_KEY);
     }
 
     public Category create(CategoryRequest request) {
-        return categoryRepository.save(request.toEntity());
+        Category saved = categoryRepository.save(request.toEntity());
+        autocompleteService.putCategory(saved.getId(), saved.getName());
+        return saved;
     }
 
     public Category update(Long id, CategoryRequest request) {
         Category category = findById(id);
         category.update(request.name(), request.color(), request.imageUrl(), request.description());
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        autocompleteService.putCategory(id, saved.getName());
+        return saved;
     }
 
     public void delete(Long id) {
         categoryRepository.deleteById(id);
+        autocompleteService.removeCategory(id);
     }
 }
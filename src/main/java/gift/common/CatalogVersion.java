@@ -0,0 +1,32 @@
+package gift.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/*
+ * Write counter of one collection served with list ETags. Rows are read and bumped by CollectionVersions
+ * with plain SQL, so the entity exists to own the table definition.
+ */
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersion {
+    @Id
+    @Column(name = "collection_key", length = 100)
+    private String collectionKey;
+
+    @Column(nullable = false)
+    private long version;
+
+    protected CatalogVersion() {
+    }
+
+    public String getCollectionKey() {
+        return collectionKey;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
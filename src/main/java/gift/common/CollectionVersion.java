@@ -0,0 +1,7 @@
+package gift.common;
+
+/*
+ * Validator for a cacheable collection: a counter in catalog_version bumped by every write to the collection.
+ */
+public record CollectionVersion(long version) {
+}
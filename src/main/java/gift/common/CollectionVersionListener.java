@@ -0,0 +1,24 @@
+package gift.common;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+/*
+ * Bumps the owning collection on every entity write, including writes made straight through a repository.
+ * Hibernate creates the listener through Spring's bean container, so it can take constructor dependencies.
+ */
+public class CollectionVersionListener {
+    private final CollectionVersions collectionVersions;
+
+    public CollectionVersionListener(CollectionVersions collectionVersions) {
+        this.collectionVersions = collectionVersions;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    void bump(Object entity) {
+        collectionVersions.bump(((VersionedCollectionMember) entity).collectionKey());
+    }
+}
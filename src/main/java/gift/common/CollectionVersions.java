@@ -0,0 +1,43 @@
+package gift.common;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * Write counters for collections served with ETags, one catalog_version row per collection.
+ * A write bumps its row in its own transaction, so the new tag becomes visible to every instance exactly when
+ * the write commits and disappears with it on rollback. A list GET costs one primary-key read for its tag.
+ * Bulk statements that bypass the entities bump explicitly inside the same transaction.
+ */
+@Component
+public class CollectionVersions {
+    private static final String SELECT_VERSION = "select version from catalog_version where collection_key = ?";
+    private static final String INCREMENT_VERSION = "update catalog_version set version = version + 1 where collection_key = ?";
+    private static final String INSERT_VERSION = "insert into catalog_version (collection_key, version) values (?, 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CollectionVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public CollectionVersion current(String collection) {
+        List<Long> versions = jdbcTemplate.queryForList(SELECT_VERSION, Long.class, collection);
+        return new CollectionVersion(versions.isEmpty() ? 0 : versions.get(0));
+    }
+
+    public void bump(String collection) {
+        if (jdbcTemplate.update(INCREMENT_VERSION, collection) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_VERSION, collection);
+        } catch (DuplicateKeyException e) {
+            // a concurrent first write created the row; the update now waits for it and increments it
+            jdbcTemplate.update(INCREMENT_VERSION, collection);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package gift.common;
+
+/*
+ * Base of the expected failures a client can cause: bad input, missing resources, bad credentials.
+ * They are control flow, not bugs, so no stack trace is captured; GlobalExceptionHandler only needs the code
+ * and the message, and filling in a trace for every bad token or unknown id would walk the stack for nothing.
+ */
+public class DomainException extends RuntimeException {
+    private final ErrorCode code;
+
+    public DomainException(ErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,38 @@
+package gift.common;
+
+import org.springframework.http.HttpStatus;
+
+/*
+ * Stable, machine-readable reasons for a failed request. Clients branch on the code; the message is for people.
+ */
+public enum ErrorCode {
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST),
+    DUPLICATE_EMAIL(HttpStatus.BAD_REQUEST),
+    INVALID_CREDENTIALS(HttpStatus.BAD_REQUEST),
+    INSUFFICIENT_POINTS(HttpStatus.BAD_REQUEST),
+    OUT_OF_STOCK(HttpStatus.BAD_REQUEST),
+    DUPLICATE_OPTION_NAME(HttpStatus.BAD_REQUEST),
+    LAST_OPTION(HttpStatus.BAD_REQUEST),
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED),
+    FORBIDDEN(HttpStatus.FORBIDDEN),
+    NOT_FOUND(HttpStatus.NOT_FOUND),
+    MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND),
+    PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND),
+    OPTION_NOT_FOUND(HttpStatus.NOT_FOUND),
+    WISH_NOT_FOUND(HttpStatus.NOT_FOUND),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_IN_USE(HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus status() {
+        return status;
+    }
+}
@@ -1,3 +1,8 @@
 package gift.common;
 
-public record ErrorResponse(String message) {}
+public record ErrorResponse(String code, String message) {
+
+    public static ErrorResponse of(ErrorCode code, String message) {
+        return new ErrorResponse(code.name(), message);
+    }
+}
@@ -0,0 +1,11 @@
+package gift.common;
+
+public class InvalidRequestException extends DomainException {
+    public InvalidRequestException(String message) {
+        super(ErrorCode.INVALID_REQUEST, message);
+    }
+
+    public InvalidRequestException(ErrorCode code, String message) {
+        super(code, message);
+    }
+}
@@ -0,0 +1,35 @@
+package gift.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/*
+ * One row per batch job that must not run concurrently across instances. Rows are locked by JobLocks with
+ * plain SQL, so the entity exists to own the table definition.
+ */
+@Entity
+@Table(name = "job_lock")
+public class JobLock {
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // when the lock was last taken, for operators
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    protected JobLock() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getLockedAt() {
+        return lockedAt;
+    }
+}
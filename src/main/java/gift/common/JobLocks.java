@@ -0,0 +1,40 @@
+package gift.common;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/*
+ * Cross-instance mutual exclusion for batch jobs, built on a row lock in job_lock.
+ * lock() updates the job's row inside the caller's transaction, so a second instance taking the same lock
+ * waits until the first one commits or rolls back.
+ */
+@Component
+public class JobLocks {
+    private static final String TOUCH_LOCK = "update job_lock set locked_at = ? where name = ?";
+    private static final String INSERT_LOCK = "insert into job_lock (name, locked_at) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobLocks(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(TOUCH_LOCK, now, name) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_LOCK, name, now);
+        } catch (DuplicateKeyException e) {
+            // another instance created the row first; the update now waits for its lock
+            jdbcTemplate.update(TOUCH_LOCK, now, name);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package gift.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/*
+ * Conditional GET support for versioned read endpoints.
+ * Callers derive a strong ETag from versions alone; a matching If-None-Match is answered with 304
+ * before the body is loaded. Otherwise the serialized JSON is kept per ETag, so an unchanged resource is
+ * serialized once. A write bumps the version and therefore the ETag, which makes stale bodies unreachable.
+ */
+@Component
+public class JsonResponseCache {
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<String, byte[]> bodies;
+
+    public JsonResponseCache(ObjectMapper objectMapper, JsonResponseCacheProperties properties) {
+        this.objectMapper = objectMapper;
+        this.bodies = new BoundedCache<>(properties.maxSize(), properties.ttl());
+    }
+
+    public static String etag(Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            key.append(part).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public ResponseEntity<byte[]> respond(String etag, String ifNoneMatch, Supplier<?> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+        }
+        byte[] json = bodies.get(etag).orElseGet(() -> {
+            byte[] serialized = serialize(body.get());
+            bodies.put(etag, serialized);
+            return serialized;
+        });
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json);
+    }
+
+    public void invalidateAll() {
+        bodies.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return bodies.stats();
+    }
+
+    // If-None-Match uses weak comparison (RFC 9110 13.1.2), so a W/ prefix on the client tag is ignored
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body.", e);
+        }
+    }
+}
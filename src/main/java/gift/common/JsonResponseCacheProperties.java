@@ -0,0 +1,13 @@
+package gift.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "catalog.response-cache")
+public record JsonResponseCacheProperties(
+    @DefaultValue("1000") int maxSize,
+    @DefaultValue("10m") Duration ttl
+) {
+}
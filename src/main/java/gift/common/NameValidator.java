@@ -2,39 +2,95 @@ package gift.common;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
+/*
+ * Checks a name in a single pass: allowed characters against a precomputed code-point bitmap and, when the caller
+ * passes one, restricted terms against an Aho–Corasick dictionary. A valid name allocates nothing.
+ * Callers take the current dictionary from the RestrictedTermDictionary bean; this class holds no state.
+ */
 public class NameValidator {
-    private static final Pattern ALLOWED_PATTERN =
-        Pattern.compile("^[a-zA-Z0-9가-힣ㄱ-ㅎㅏ-ㅣ ()\\[\\]+\\-&/_]*$");
+    private static final String ALLOWED_SYMBOLS = " ()[]+-&/_";
+    private static final long[] ALLOWED_CHARACTERS = allowedCharacters();
 
     private NameValidator() {
     }
 
     public static List<String> validate(String name, String label, int maxLength) {
-        return validate(name, label, maxLength, false);
+        return validate(name, label, maxLength, null);
     }
 
-    public static List<String> validate(String name, String label, int maxLength, boolean checkKakao) {
-        List<String> errors = new ArrayList<>();
-
+    // a null matcher skips the restricted-term check
+    public static List<String> validate(String name, String label, int maxLength, RestrictedTermMatcher restrictedTerms) {
         if (name == null || name.isBlank()) {
+            List<String> errors = new ArrayList<>();
             errors.add(label + " is required.");
             return errors;
         }
 
-        if (name.length() > maxLength) {
-            errors.add(label + " must be at most " + maxLength + " characters.");
+        boolean invalidCharacters = false;
+        List<RestrictedTerm> matchedTerms = null;
+        int state = RestrictedTermMatcher.ROOT;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!isAllowed(c)) {
+                invalidCharacters = true;
+            }
+            if (restrictedTerms != null) {
+                state = restrictedTerms.step(state, c);
+                if (restrictedTerms.matches(state)) {
+                    if (matchedTerms == null) {
+                        matchedTerms = new ArrayList<>();
+                    }
+                    restrictedTerms.collect(state, matchedTerms);
+                }
+            }
+        }
+
+        boolean tooLong = name.length() > maxLength;
+        if (!tooLong && !invalidCharacters && matchedTerms == null) {
+            return List.of();
         }
 
-        if (!ALLOWED_PATTERN.matcher(name).matches()) {
+        List<String> errors = new ArrayList<>();
+        if (tooLong) {
+            errors.add(label + " must be at most " + maxLength + " characters.");
+        }
+        if (invalidCharacters) {
             errors.add(label + " contains invalid special characters. Allowed: ( ) [ ] + - & / _");
         }
+        if (matchedTerms != null) {
+            for (RestrictedTerm term : matchedTerms) {
+                errors.add(switch (term.kind()) {
+                    case RESTRICTED -> label + " must not contain \"" + term.term() + "\".";
+                    case APPROVAL_REQUIRED -> label + " containing \"" + term.term() + "\" requires approval from the MD team.";
+                });
+            }
+        }
+        return errors;
+    }
+
+    private static boolean isAllowed(char c) {
+        return (ALLOWED_CHARACTERS[c >>> 6] & (1L << c)) != 0;
+    }
 
-        if (checkKakao && name.contains("카카오")) {
-            errors.add(label + " containing \"카카오\" requires approval from the MD team.");
+    // same set as the former ^[a-zA-Z0-9가-힣ㄱ-ㅎㅏ-ㅣ ()\[\]+\-&/_]*$ pattern, one bit per UTF-16 code unit
+    private static long[] allowedCharacters() {
+        long[] bits = new long[(Character.MAX_VALUE + 1) / 64];
+        allowRange(bits, 'a', 'z');
+        allowRange(bits, 'A', 'Z');
+        allowRange(bits, '0', '9');
+        allowRange(bits, '가', '힣');
+        allowRange(bits, 'ㄱ', 'ㅎ');
+        allowRange(bits, 'ㅏ', 'ㅣ');
+        for (int i = 0; i < ALLOWED_SYMBOLS.length(); i++) {
+            allowRange(bits, ALLOWED_SYMBOLS.charAt(i), ALLOWED_SYMBOLS.charAt(i));
         }
+        return bits;
+    }
 
-        return errors;
+    private static void allowRange(long[] bits, char from, char to) {
+        for (int c = from; c <= to; c++) {
+            bits[c >>> 6] |= 1L << c;
+        }
     }
 }
@@ -0,0 +1,7 @@
+package gift.common;
+
+public class NotFoundException extends DomainException {
+    public NotFoundException(ErrorCode code, String message) {
+        super(code, message);
+    }
+}
@@ -0,0 +1,20 @@
+package gift.common;
+
+public record RestrictedTerm(String term, Kind kind) {
+
+    public enum Kind {
+        // never allowed in a name
+        RESTRICTED,
+        // allowed only after the MD team signs off
+        APPROVAL_REQUIRED
+    }
+
+    public RestrictedTerm {
+        if (term == null || term.isBlank()) {
+            throw new IllegalArgumentException("Restricted term must not be blank.");
+        }
+        if (kind == null) {
+            throw new IllegalArgumentException("Restricted term kind is required.");
+        }
+    }
+}
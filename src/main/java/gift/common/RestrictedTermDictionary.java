@@ -0,0 +1,106 @@
+package gift.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Loads the MD team's restricted-term list and hands it to name validation as a compiled automaton.
+ * One term per line as "restricted:<term>" or "approval:<term>"; blank lines and lines starting with # are
+ * ignored. The file is polled for a new modification time and recompiled in the background; a file that
+ * fails to parse is logged and the previous dictionary stays in effect.
+ */
+@Component
+public class RestrictedTermDictionary {
+    private static final Logger log = LoggerFactory.getLogger(RestrictedTermDictionary.class);
+
+    private final Resource resource;
+    private long lastModified;
+    private volatile RestrictedTermMatcher matcher;
+
+    public RestrictedTermDictionary(ResourceLoader resourceLoader, RestrictedTermProperties properties) {
+        this.resource = resourceLoader.getResource(properties.location());
+        // fail fast at startup; only reloads fall back to the previous dictionary
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${name.restricted-terms.reload-interval:PT30S}")
+    public void reloadIfModified() {
+        try {
+            if (modifiedTime() == lastModified) {
+                return;
+            }
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload restricted terms from {}; keeping the previous dictionary", resource, e);
+        }
+    }
+
+    public RestrictedTermMatcher matcher() {
+        return matcher;
+    }
+
+    public synchronized void reload() {
+        long modified = modifiedTime();
+        List<RestrictedTerm> terms = read();
+        matcher = RestrictedTermMatcher.compile(terms);
+        lastModified = modified;
+        log.info("Loaded {} restricted terms from {}", terms.size(), resource);
+    }
+
+    private List<RestrictedTerm> read() {
+        List<RestrictedTerm> terms = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                terms.add(parse(line, lineNumber));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read restricted terms from " + resource, e);
+        }
+        return terms;
+    }
+
+    private static RestrictedTerm parse(String line, int lineNumber) {
+        int separator = line.indexOf(':');
+        if (separator > 0) {
+            String kind = line.substring(0, separator).strip();
+            String term = line.substring(separator + 1).strip();
+            if (!term.isEmpty()) {
+                if (kind.equals("restricted")) {
+                    return new RestrictedTerm(term, RestrictedTerm.Kind.RESTRICTED);
+                }
+                if (kind.equals("approval")) {
+                    return new RestrictedTerm(term, RestrictedTerm.Kind.APPROVAL_REQUIRED);
+                }
+            }
+        }
+        throw new IllegalArgumentException(
+            "Restricted term line " + lineNumber + " must be restricted:<term> or approval:<term>. line=" + line);
+    }
+
+    // 0 when the resource cannot report one (e.g. inside a jar), so such a dictionary loads once
+    private long modifiedTime() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
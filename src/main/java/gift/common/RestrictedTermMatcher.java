@@ -0,0 +1,207 @@
+package gift.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Immutable Aho–Corasick automaton over a restricted-term dictionary.
+ * States are dense ints; each state's transitions are a sorted char array with a parallel target array,
+ * so stepping is a binary search plus failure-link hops and never allocates. Matching is case-insensitive
+ * for letters that have a lower-case form; Hangul is matched as is.
+ */
+public final class RestrictedTermMatcher {
+    static final int ROOT = 0;
+
+    private static final RestrictedTermMatcher EMPTY = compile(List.of());
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    // index into terms of a term ending at this state, or -1
+    private final int[] terminal;
+    // nearest state on the failure chain that has a terminal term, or -1
+    private final int[] outputLink;
+    private final RestrictedTerm[] terms;
+
+    private RestrictedTermMatcher(char[][] labels, int[][] targets, int[] failure, int[] terminal, int[] outputLink,
+                                  RestrictedTerm[] terms) {
+        this.labels = labels;
+        this.targets = targets;
+        this.failure = failure;
+        this.terminal = terminal;
+        this.outputLink = outputLink;
+        this.terms = terms;
+    }
+
+    public static RestrictedTermMatcher empty() {
+        return EMPTY;
+    }
+
+    public static RestrictedTermMatcher compile(Collection<RestrictedTerm> dictionary) {
+        Builder builder = new Builder();
+        List<RestrictedTerm> terms = new ArrayList<>();
+        for (RestrictedTerm term : dictionary) {
+            if (builder.insert(normalize(term.term()), terms.size())) {
+                terms.add(term);
+            }
+        }
+        return builder.build(terms.toArray(RestrictedTerm[]::new));
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    // the first term found in the text, in the order their last characters appear; null when there is none
+    public RestrictedTerm findFirst(String text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            if (matches(state)) {
+                return terms[terminal[state] >= 0 ? terminal[state] : terminal[outputLink[state]]];
+            }
+        }
+        return null;
+    }
+
+    int step(int state, char c) {
+        char key = Character.toLowerCase(c);
+        while (true) {
+            int found = Arrays.binarySearch(labels[state], key);
+            if (found >= 0) {
+                return targets[state][found];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    boolean matches(int state) {
+        return terminal[state] >= 0 || outputLink[state] >= 0;
+    }
+
+    // adds every term ending at this state that is not already in the list
+    void collect(int state, List<RestrictedTerm> into) {
+        int current = terminal[state] >= 0 ? state : outputLink[state];
+        while (current >= 0) {
+            RestrictedTerm term = terms[terminal[current]];
+            if (!into.contains(term)) {
+                into.add(term);
+            }
+            current = outputLink[current];
+        }
+    }
+
+    private static String normalize(String term) {
+        StringBuilder normalized = new StringBuilder(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            normalized.append(Character.toLowerCase(term.charAt(i)));
+        }
+        return normalized.toString().strip();
+    }
+
+    private static final class Builder {
+        private final List<char[]> labels = new ArrayList<>();
+        private final List<int[]> targets = new ArrayList<>();
+        private final List<Integer> terminal = new ArrayList<>();
+
+        Builder() {
+            newState();
+        }
+
+        // returns false for a duplicate term, which keeps the first occurrence
+        boolean insert(String term, int termIndex) {
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                char[] stateLabels = labels.get(state);
+                int found = Arrays.binarySearch(stateLabels, c);
+                if (found >= 0) {
+                    state = targets.get(state)[found];
+                    continue;
+                }
+                int next = newState();
+                int position = -found - 1;
+                labels.set(state, insertAt(stateLabels, position, c));
+                targets.set(state, insertAt(targets.get(state), position, next));
+                state = next;
+            }
+            if (terminal.get(state) >= 0) {
+                return false;
+            }
+            terminal.set(state, termIndex);
+            return true;
+        }
+
+        RestrictedTermMatcher build(RestrictedTerm[] terms) {
+            int size = labels.size();
+            char[][] labelArray = labels.toArray(char[][]::new);
+            int[][] targetArray = targets.toArray(int[][]::new);
+            int[] terminalArray = terminal.stream().mapToInt(Integer::intValue).toArray();
+            int[] failure = new int[size];
+            int[] outputLink = new int[size];
+            Arrays.fill(outputLink, -1);
+
+            // breadth-first so every failure target is finished before the states that point at it
+            int[] queue = new int[size];
+            int head = 0;
+            int tail = 0;
+            for (int child : targetArray[ROOT]) {
+                failure[child] = ROOT;
+                queue[tail++] = child;
+            }
+            while (head < tail) {
+                int state = queue[head++];
+                for (int i = 0; i < labelArray[state].length; i++) {
+                    char c = labelArray[state][i];
+                    int child = targetArray[state][i];
+                    int fallback = failure[state];
+                    int next;
+                    while (true) {
+                        int found = Arrays.binarySearch(labelArray[fallback], c);
+                        if (found >= 0) {
+                            next = targetArray[fallback][found];
+                            break;
+                        }
+                        if (fallback == ROOT) {
+                            next = ROOT;
+                            break;
+                        }
+                        fallback = failure[fallback];
+                    }
+                    failure[child] = next;
+                    outputLink[child] = terminalArray[next] >= 0 ? next : outputLink[next];
+                    queue[tail++] = child;
+                }
+            }
+            return new RestrictedTermMatcher(labelArray, targetArray, failure, terminalArray, outputLink, terms);
+        }
+
+        private int newState() {
+            labels.add(new char[0]);
+            targets.add(new int[0]);
+            terminal.add(-1);
+            return labels.size() - 1;
+        }
+
+        private static char[] insertAt(char[] array, int position, char value) {
+            char[] grown = new char[array.length + 1];
+            System.arraycopy(array, 0, grown, 0, position);
+            grown[position] = value;
+            System.arraycopy(array, position, grown, position + 1, array.length - position);
+            return grown;
+        }
+
+        private static int[] insertAt(int[] array, int position, int value) {
+            int[] grown = new int[array.length + 1];
+            System.arraycopy(array, 0, grown, 0, position);
+            grown[position] = value;
+            System.arraycopy(array, position, grown, position + 1, array.length - position);
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package gift.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "name.restricted-terms")
+public record RestrictedTermProperties(
+    @DefaultValue("classpath:restricted-terms.txt") String location
+) {
+}
@@ -0,0 +1,82 @@
+package gift.common;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/*
+ * Time-ordered 64-bit ids: 41 bits of milliseconds since 2024-01-01T00:00:00Z, 10 bits of node id and 12 bits of
+ * per-millisecond sequence, which leaves the sign bit clear and lasts until 2093.
+ * The last timestamp and sequence live in one AtomicLong and advance with a CAS loop, so callers never block.
+ * When 4096 ids have been handed out within a millisecond, or the clock steps backwards, the generator keeps
+ * counting from its own last timestamp instead of waiting; ids stay unique and increasing and the timestamp
+ * catches up with the wall clock once the burst is over.
+ * The generator is process-wide: two Spring contexts in one JVM that used the same node id with separate sequences
+ * would hand out the same ids, so SnowflakeConfig installs it once and later contexts must repeat the same node id.
+ */
+public final class Snowflake {
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static final AtomicReference<Snowflake> INSTANCE = new AtomicReference<>();
+
+    private final int nodeId;
+    private final long node;
+    private final LongSupplier clock;
+    // (milliseconds since EPOCH_MILLIS << SEQUENCE_BITS) | sequence of the last id handed out
+    private final AtomicLong state = new AtomicLong();
+
+    Snowflake(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Snowflake node id must be between 0 and " + MAX_NODE_ID + ". nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.node = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public static Snowflake instance() {
+        Snowflake snowflake = INSTANCE.get();
+        if (snowflake == null) {
+            throw new IllegalStateException("Snowflake node id is not configured; set snowflake.node-id.");
+        }
+        return snowflake;
+    }
+
+    static void configure(int nodeId) {
+        INSTANCE.compareAndSet(null, new Snowflake(nodeId, System::currentTimeMillis));
+        int installed = INSTANCE.get().nodeId;
+        if (installed != nodeId) {
+            throw new IllegalStateException(
+                "Snowflake node id " + installed + " is already in use by this process. nodeId=" + nodeId);
+        }
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long last = current >>> SEQUENCE_BITS;
+            // a new millisecond restarts the sequence; otherwise count on, rolling into the next millisecond on overflow
+            long next = now > last ? now << SEQUENCE_BITS : current + 1;
+            if (state.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << TIMESTAMP_SHIFT) | node | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,19 @@
+package gift.common;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class SnowflakeConfig {
+
+    public SnowflakeConfig(SnowflakeProperties properties) {
+        Snowflake.configure(properties.nodeId());
+    }
+
+    // Hibernate draws entity ids from Snowflake, so the node id is installed before the entity manager factory
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor snowflakeBeforeEntityManagerFactory() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SnowflakeConfig.class);
+    }
+}
@@ -0,0 +1,25 @@
+package gift.common;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+// Hibernate side of @SnowflakeId; every annotated entity draws from the same process-wide sequence
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    public SnowflakeIdGenerator(SnowflakeId config) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return Snowflake.instance().nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
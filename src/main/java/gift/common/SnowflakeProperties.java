@@ -0,0 +1,18 @@
+package gift.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/*
+ * Node id of this instance, 0-1023. There is no default: two instances left on the same value would generate
+ * the same primary keys, so every deployment assigns each instance its own id.
+ */
+@ConfigurationProperties(prefix = "snowflake")
+public record SnowflakeProperties(
+    Integer nodeId
+) {
+    public SnowflakeProperties {
+        if (nodeId == null) {
+            throw new IllegalArgumentException("snowflake.node-id must be set to a value unique to this instance.");
+        }
+    }
+}
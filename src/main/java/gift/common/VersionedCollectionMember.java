@@ -0,0 +1,8 @@
+package gift.common;
+
+/*
+ * An entity whose inserts, updates and deletes change a collection tracked by CollectionVersions.
+ */
+public interface VersionedCollectionMember {
+    String collectionKey();
+}
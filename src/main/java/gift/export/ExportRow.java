@@ -0,0 +1,8 @@
+package gift.export;
+
+import java.util.List;
+
+// one exported record; values() are written as CSV cells in column order
+interface ExportRow {
+    List<Object> values();
+}
@@ -0,0 +1,134 @@
+package gift.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.member.MemberRepository;
+import gift.order.OrderRepository;
+import gift.product.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/*
+ * Writes whole tables without materializing them. Each export runs a forward-only Stream query with a
+ * fetch size hint inside its own read-only transaction, on the response thread of the StreamingResponseBody.
+ * The persistence context is cleared every CLEAR_EVERY_ROWS rows. Detaching each entity is not enough: the
+ * uninitialized proxies behind Order.option and Product.category stay registered in the context, so only a
+ * clear keeps heap use from growing with the table.
+ */
+@Service
+public class ExportService {
+    private static final int FLUSH_EVERY_ROWS = 1_000;
+    private static final int CLEAR_EVERY_ROWS = 1_000;
+
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(
+        ProductRepository productRepository,
+        MemberRepository memberRepository,
+        OrderRepository orderRepository,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper
+    ) {
+        this.productRepository = productRepository;
+        this.memberRepository = memberRepository;
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public StreamingResponseBody products(ExportFormat format) {
+        return export(format, ProductExportRow.COLUMNS, productRepository::streamAll, ProductExportRow::from);
+    }
+
+    public StreamingResponseBody members(ExportFormat format) {
+        return export(format, MemberExportRow.COLUMNS, memberRepository::streamAll, MemberExportRow::from);
+    }
+
+    public StreamingResponseBody orders(ExportFormat format) {
+        return export(format, OrderExportRow.COLUMNS, orderRepository::streamAll, OrderExportRow::from);
+    }
+
+    private <E> StreamingResponseBody export(
+        ExportFormat format,
+        List<String> columns,
+        Supplier<Stream<E>> query,
+        Function<E, ? extends ExportRow> toRow
+    ) {
+        return output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                writer.write(csvLine(columns));
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<E> entities = query.get()) {
+                    long written = 0;
+                    Iterator<E> iterator = entities.iterator();
+                    while (iterator.hasNext()) {
+                        ExportRow row = toRow.apply(iterator.next());
+                        writer.write(format == ExportFormat.CSV ? csvLine(row.values()) : jsonLine(row));
+                        written++;
+                        if (written % FLUSH_EVERY_ROWS == 0) {
+                            writer.flush();
+                        }
+                        // read-only, so there is nothing to flush; the open cursor is unaffected by the clear
+                        if (written % CLEAR_EVERY_ROWS == 0) {
+                            entityManager.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    private String jsonLine(ExportRow row) throws IOException {
+        return objectMapper.writeValueAsString(row) + "\n";
+    }
+
+    private static String csvLine(List<?> values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(csvCell(values.get(i)));
+        }
+        return line.append("\r\n").toString();
+    }
+
+    // RFC 4180: quote cells containing separators, quotes or line breaks, doubling embedded quotes
+    private static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
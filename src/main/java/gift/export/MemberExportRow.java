@@ -0,0 +1,30 @@
+package gift.export;
+
+import gift.member.Member;
+
+import java.util.Arrays;
+import java.util.List;
+
+// password and Kakao access token are never exported
+record MemberExportRow(
+    Long id,
+    String email,
+    int point,
+    boolean kakaoLinked
+) implements ExportRow {
+    static final List<String> COLUMNS = List.of("id", "email", "point", "kakaoLinked");
+
+    static MemberExportRow from(Member member) {
+        return new MemberExportRow(
+            member.getId(),
+            member.getEmail(),
+            member.getPoint(),
+            member.getKakaoAccessToken() != null
+        );
+    }
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, email, point, kakaoLinked);
+    }
+}
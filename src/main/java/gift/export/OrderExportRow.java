@@ -0,0 +1,35 @@
+package gift.export;
+
+import gift.order.Order;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+record OrderExportRow(
+    Long id,
+    Long memberId,
+    Long optionId,
+    int quantity,
+    String message,
+    LocalDateTime orderDateTime
+) implements ExportRow {
+    static final List<String> COLUMNS = List.of("id", "memberId", "optionId", "quantity", "message", "orderDateTime");
+
+    // the option id comes from the lazy proxy without loading the option
+    static OrderExportRow from(Order order) {
+        return new OrderExportRow(
+            order.getId(),
+            order.getMemberId(),
+            order.getOption().getId(),
+            order.getQuantity(),
+            order.getMessage(),
+            order.getOrderDateTime()
+        );
+    }
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, memberId, optionId, quantity, message, orderDateTime);
+    }
+}
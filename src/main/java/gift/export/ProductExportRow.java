@@ -0,0 +1,31 @@
+package gift.export;
+
+import gift.product.Product;
+
+import java.util.Arrays;
+import java.util.List;
+
+record ProductExportRow(
+    Long id,
+    String name,
+    int price,
+    String imageUrl,
+    Long categoryId
+) implements ExportRow {
+    static final List<String> COLUMNS = List.of("id", "name", "price", "imageUrl", "categoryId");
+
+    static ProductExportRow from(Product product) {
+        return new ProductExportRow(
+            product.getId(),
+            product.getName(),
+            product.getPrice(),
+            product.getImageUrl(),
+            product.getCategory().getId()
+        );
+    }
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, name, price, imageUrl, categoryId);
+    }
+}
@@ -1,5 +1,8 @@
 package gift.member;
 
+import gift.auth.PasswordHasher;
+import gift.auth.PasswordHashingStats;
+import gift.common.DomainException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 /**
  * Admin controller for managing members.
@@ -18,9 +22,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 @RequestMapping("/admin/members")
 public class AdminMemberController {
     private final MemberService memberService;
+    private final PasswordHasher passwordHasher;
 
-    public AdminMemberController(MemberService memberService) {
+    public AdminMemberController(MemberService memberService, PasswordHasher passwordHasher) {
         this.memberService = memberService;
+        this.passwordHasher = passwordHasher;
     }
 
     @GetMapping
@@ -42,7 +48,7 @@ public class AdminMemberController {
     ) {
         try {
             memberService.create(email, password);
-        } catch (IllegalArgumentException e) {
+        } catch (DomainException e) {
             populateNewFormError(model, email, e.getMessage());
             return "member/new";
         }
@@ -59,7 +65,7 @@ public class AdminMemberController {
     public String update(
         @PathVariable Long id,
         @RequestParam String email,
-        @RequestParam String password
+        @RequestParam(required = false) String password
     ) {
         memberService.update(id, email, password);
         return "redirect:/admin/members";
@@ -74,6 +80,24 @@ public class AdminMemberController {
         return "redirect:/admin/members";
     }
 
+    @PostMapping("/{id}/revoke-tokens")
+    public String revokeTokens(@PathVariable Long id) {
+        memberService.revokeTokens(id);
+        return "redirect:/admin/members";
+    }
+
+    @GetMapping("/{id}/point-reconciliation")
+    @ResponseBody
+    public PointReconciliation reconcilePoint(@PathVariable Long id) {
+        return memberService.reconcilePoint(id);
+    }
+
+    @GetMapping("/password-hashing-stats")
+    @ResponseBody
+    public PasswordHashingStats passwordHashingStats() {
+        return passwordHasher.stats();
+    }
+
     @PostMapping("/{id}/delete")
     public String delete(@PathVariable Long id) {
         memberService.delete(id);
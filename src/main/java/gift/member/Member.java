@@ -4,14 +4,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.util.Objects;
 
 /**
  * Represents a registered member.
+ * Updates are dynamic so that saving profile or token changes never rewrites the point balance,
+ * which is only changed through the guarded updates in {@link MemberRepository}.
  *
  * @author brian.kim
  * @since 1.0
  */
 @Entity
+@DynamicUpdate
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,6 +31,9 @@ public class Member {
 
     private int point;
 
+    // embedded in issued tokens; bumping it revokes every token issued before
+    private int tokenVersion;
+
     protected Member() {
     }
 
@@ -37,7 +46,20 @@ public class Member {
         this.email = email;
     }
 
+    // detached copy handed out by MemberCache
+    Member(Member source) {
+        this.id = source.id;
+        this.email = source.email;
+        this.password = source.password;
+        this.kakaoAccessToken = source.kakaoAccessToken;
+        this.point = source.point;
+        this.tokenVersion = source.tokenVersion;
+    }
+
     public void update(String email, String password) {
+        if (!Objects.equals(this.password, password)) {
+            this.tokenVersion++;
+        }
         this.email = email;
         this.password = password;
     }
@@ -83,4 +105,8 @@ public class Member {
     public int getPoint() {
         return point;
     }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
 }
@@ -0,0 +1,110 @@
+package gift.member;
+
+import gift.common.AfterCommit;
+import gift.common.BoundedCache;
+import gift.common.CacheStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Bounded cache of members for request authentication, keyed by id with an email-to-id index on the side.
+ * Callers always get a detached copy, never the cached instance.
+ * Writers evict a member right away and again after their transaction commits. A load that overlapped an
+ * eviction is not stored, so a reader that saw the row before the commit cannot put a stale copy back.
+ * The balance on a cached copy is informational only: payment goes through the guarded point updates in
+ * MemberRepository, and anything that needs the current balance reads the row through MemberService.
+ * Token versions are cached apart from the members and only for member.cache.token-version-ttl, since evictions
+ * reach this instance only: a revocation or deletion made through another instance rejects old tokens here
+ * once that short TTL has passed, instead of after the full member TTL.
+ */
+@Component
+public class MemberCache {
+    private final MemberRepository memberRepository;
+    private final BoundedCache<Long, Member> membersById;
+    private final BoundedCache<String, Long> idsByEmail;
+    private final BoundedCache<Long, Integer> tokenVersionsById;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public MemberCache(MemberRepository memberRepository, MemberCacheProperties properties) {
+        this.memberRepository = memberRepository;
+        this.membersById = new BoundedCache<>(properties.maxSize(), properties.ttl());
+        this.idsByEmail = new BoundedCache<>(properties.maxSize(), properties.ttl());
+        this.tokenVersionsById = new BoundedCache<>(properties.maxSize(), properties.tokenVersionTtl());
+    }
+
+    public Optional<Member> findByEmail(String email) {
+        // the index may point at an entry that was evicted or whose email changed since; both fall through to the database
+        Optional<Member> cached = idsByEmail.get(email)
+            .flatMap(membersById::get)
+            .filter(member -> member.getEmail().equals(email));
+        if (cached.isPresent()) {
+            return cached.map(Member::new);
+        }
+        long seen = evictions.get();
+        return memberRepository.findByEmail(email).map(member -> store(member, seen));
+    }
+
+    public Optional<Member> findById(Long id) {
+        Optional<Member> cached = membersById.get(id);
+        if (cached.isPresent()) {
+            return cached.map(Member::new);
+        }
+        long seen = evictions.get();
+        return memberRepository.findById(id).map(member -> store(member, seen));
+    }
+
+    // empty once the member is deleted, so authentication rejects the member's tokens
+    public Optional<Integer> findTokenVersion(Long id) {
+        Optional<Integer> cached = tokenVersionsById.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long seen = evictions.get();
+        Optional<Integer> loaded = memberRepository.findTokenVersionById(id);
+        if (loaded.isPresent() && evictions.get() == seen) {
+            tokenVersionsById.put(id, loaded.get());
+            if (evictions.get() != seen) {
+                tokenVersionsById.invalidate(id);
+            }
+        }
+        return loaded;
+    }
+
+    // a stale email index entry is harmless once the member itself is gone, so only the id is evicted
+    public void evict(Long id) {
+        evictNow(id);
+        AfterCommit.run(() -> evictNow(id));
+    }
+
+    public void evictAll() {
+        evictions.incrementAndGet();
+        membersById.invalidateAll();
+        idsByEmail.invalidateAll();
+        tokenVersionsById.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return membersById.stats();
+    }
+
+    private Member store(Member loaded, long seen) {
+        Member copy = new Member(loaded);
+        if (evictions.get() == seen) {
+            membersById.put(copy.getId(), copy);
+            idsByEmail.put(copy.getEmail(), copy.getId());
+            // an eviction that landed between the check and the put is caught here
+            if (evictions.get() != seen) {
+                membersById.invalidate(copy.getId());
+            }
+        }
+        return new Member(copy);
+    }
+
+    private void evictNow(Long id) {
+        evictions.incrementAndGet();
+        membersById.invalidate(id);
+        tokenVersionsById.invalidate(id);
+    }
+}
@@ -0,0 +1,14 @@
+package gift.member;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "member.cache")
+public record MemberCacheProperties(
+    @DefaultValue("10000") int maxSize,
+    @DefaultValue("5m") Duration ttl,
+    @DefaultValue("5s") Duration tokenVersionTtl
+) {
+}
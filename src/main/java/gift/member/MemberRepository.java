@@ -1,8 +1,16 @@
 package gift.member;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for {@link Member} entities.
@@ -14,4 +22,52 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Adds points in a single statement so concurrent charges and deductions never overwrite each other.
+     *
+     * @return the affected-row count (0 when the member does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.point = m.point + :amount where m.id = :id")
+    int chargePoint(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Deducts points only if the balance covers the amount.
+     *
+     * @return the affected-row count (0 when the member does not exist or points are insufficient)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.point = m.point - :amount where m.id = :id and m.point >= :amount")
+    int deductPoint(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Replaces a verified password with a stronger hash, unless it was changed since it was verified.
+     *
+     * @return the affected-row count (0 when the stored password no longer matches {@code previous})
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.password = :hash where m.id = :id and m.password = :previous")
+    int upgradePassword(@Param("id") Long id, @Param("previous") String previous, @Param("hash") String hash);
+
+    /**
+     * Invalidates every token issued to the member so far.
+     *
+     * @return the affected-row count (0 when the member does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.tokenVersion = m.tokenVersion + 1 where m.id = :id")
+    int revokeTokens(@Param("id") Long id);
+
+    @Query("select m.tokenVersion from Member m where m.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * Streams every member in id order for exports. Must be consumed inside a transaction and closed.
+     * On MySQL the fetch size hint only avoids buffering the whole result with {@code useCursorFetch=true}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m from Member m order by m.id")
+    Stream<Member> streamAll();
 }
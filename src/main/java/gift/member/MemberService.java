@@ -1,15 +1,31 @@
 package gift.member;
 
+import gift.auth.PasswordHasher;
+import gift.common.ErrorCode;
+import gift.common.InvalidRequestException;
+import gift.common.NotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 public class MemberService {
     private final MemberRepository memberRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final MemberCache memberCache;
+    private final PasswordHasher passwordHasher;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(
+        MemberRepository memberRepository,
+        PointTransactionRepository pointTransactionRepository,
+        MemberCache memberCache,
+        PasswordHasher passwordHasher
+    ) {
         this.memberRepository = memberRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.memberCache = memberCache;
+        this.passwordHasher = passwordHasher;
     }
 
     public List<Member> findAll() {
@@ -18,29 +34,71 @@ public class MemberService {
 
     public Member findById(Long id) {
         return memberRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Member not found. id=" + id));
+            .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_NOT_FOUND, "Member not found. id=" + id));
     }
 
     public Member create(String email, String password) {
         if (memberRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email is already registered.");
+            throw new InvalidRequestException(ErrorCode.DUPLICATE_EMAIL, "Email is already registered.");
         }
-        return memberRepository.save(new Member(email, password));
+        return memberRepository.save(new Member(email, passwordHasher.hash(password)));
     }
 
     public void update(Long id, String email, String password) {
         final Member member = findById(id);
-        member.update(email, password);
+        // a blank password or the current one keeps the stored hash, so neither counts as a change
+        final String stored = password == null || password.isBlank()
+            || passwordHasher.matches(password, member.getPassword())
+            ? member.getPassword()
+            : passwordHasher.hash(password);
+        member.update(email, stored);
         memberRepository.save(member);
+        memberCache.evict(id);
     }
 
+    @Transactional
     public void chargePoint(Long id, int amount) {
+        if (amount <= 0) {
+            throw new InvalidRequestException("Amount must be greater than zero.");
+        }
+        if (memberRepository.chargePoint(id, amount) == 0) {
+            throw new NotFoundException(ErrorCode.MEMBER_NOT_FOUND, "Member not found. id=" + id);
+        }
+        pointTransactionRepository.save(PointTransaction.charge(id, amount));
+        memberCache.evict(id);
+    }
+
+    @Transactional
+    public void revokeTokens(Long id) {
+        if (memberRepository.revokeTokens(id) == 0) {
+            throw new NotFoundException(ErrorCode.MEMBER_NOT_FOUND, "Member not found. id=" + id);
+        }
+        memberCache.evict(id);
+    }
+
+    // point deduction for order payment; joins the caller's transaction
+    @Transactional
+    public void deductPoint(Long id, int amount) {
+        if (amount <= 0) {
+            throw new InvalidRequestException("Deduction amount must be greater than zero.");
+        }
+        if (memberRepository.deductPoint(id, amount) == 0) {
+            findById(id);
+            throw new InvalidRequestException(ErrorCode.INSUFFICIENT_POINTS, "Insufficient points.");
+        }
+        pointTransactionRepository.save(PointTransaction.deduct(id, amount));
+        memberCache.evict(id);
+    }
+
+    @Transactional(readOnly = true)
+    public PointReconciliation reconcilePoint(Long id) {
         final Member member = findById(id);
-        member.chargePoint(amount);
-        memberRepository.save(member);
+        final long ledgerSum = pointTransactionRepository.sumAmountByMemberId(id);
+        return PointReconciliation.of(id, member.getPoint(), ledgerSum);
     }
 
     public void delete(Long id) {
         memberRepository.deleteById(id);
+        memberCache.evict(id);
     }
 }
@@ -0,0 +1,18 @@
+package gift.member;
+
+/**
+ * Result of comparing a member's stored point balance with the sum of the point ledger.
+ *
+ * @author brian.kim
+ * @since 1.0
+ */
+public record PointReconciliation(
+    Long memberId,
+    int balance,
+    long ledgerSum,
+    boolean consistent
+) {
+    public static PointReconciliation of(Long memberId, int balance, long ledgerSum) {
+        return new PointReconciliation(memberId, balance, ledgerSum, balance == ledgerSum);
+    }
+}
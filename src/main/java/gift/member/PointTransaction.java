@@ -0,0 +1,85 @@
+package gift.member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only ledger entry for a change to a member's point balance.
+ * Charges are positive and deductions negative, so the ledger sum equals the balance.
+ *
+ * @author brian.kim
+ * @since 1.0
+ */
+@Entity
+@Table(
+    name = "point_transaction",
+    indexes = @Index(name = "idx_point_transaction_member", columnList = "member_id")
+)
+public class PointTransaction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    private int amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    protected PointTransaction() {
+    }
+
+    private PointTransaction(Long memberId, int amount, Type type) {
+        this.memberId = memberId;
+        this.amount = amount;
+        this.type = type;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static PointTransaction charge(Long memberId, int amount) {
+        return new PointTransaction(memberId, amount, Type.CHARGE);
+    }
+
+    public static PointTransaction deduct(Long memberId, int amount) {
+        return new PointTransaction(memberId, -amount, Type.DEDUCT);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public enum Type {
+        OPENING, CHARGE, DEDUCT
+    }
+}
@@ -0,0 +1,16 @@
+package gift.member;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository for {@link PointTransaction} ledger entries.
+ *
+ * @author brian.kim
+ * @since 1.0
+ */
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
+    @Query("select coalesce(sum(t.amount), 0) from PointTransaction t where t.memberId = :memberId")
+    long sumAmountByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,23 +1,28 @@
 package gift.option;
 
+import gift.common.CollectionVersionListener;
+import gift.common.SnowflakeId;
+import gift.common.VersionedCollectionMember;
 import gift.product.Product;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
 @Table(name = "options")
-public class Option {
+@EntityListeners(CollectionVersionListener.class)
+public class Option implements VersionedCollectionMember {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
@@ -27,6 +32,9 @@ public class Option {
     @Column(nullable = false)
     private int quantity;
 
+    @Version
+    private long version;
+
     protected Option() {
     }
 
@@ -58,4 +66,18 @@ public class Option {
     public int getQuantity() {
         return quantity;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // options are listed per product, so each product's options are a collection of their own
+    static String collectionKey(Long productId) {
+        return "options:" + productId;
+    }
+
+    @Override
+    public String collectionKey() {
+        return collectionKey(product.getId());
+    }
 }
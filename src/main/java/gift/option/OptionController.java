@@ -1,17 +1,19 @@
 package gift.option;
 
+import gift.common.JsonResponseCache;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
-import java.util.List;
 
 /*
  * Each product must have at least one option at all times.
@@ -21,17 +23,22 @@ import java.util.List;
 @RequestMapping(path = "/api/products/{productId}/options")
 public class OptionController {
     private final OptionService optionService;
+    private final JsonResponseCache responseCache;
 
-    public OptionController(OptionService optionService) {
+    public OptionController(OptionService optionService, JsonResponseCache responseCache) {
         this.optionService = optionService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<OptionResponse>> getOptions(@PathVariable Long productId) {
-        List<OptionResponse> options = optionService.findByProductId(productId).stream()
+    public ResponseEntity<byte[]> getOptions(
+        @PathVariable Long productId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = JsonResponseCache.etag("options", productId, optionService.collectionVersionByProductId(productId));
+        return responseCache.respond(etag, ifNoneMatch, () -> optionService.findByProductId(productId).stream()
             .map(OptionResponse::from)
-            .toList();
-        return ResponseEntity.ok(options);
+            .toList());
     }
 
     @PostMapping
@@ -1,11 +1,34 @@
 package gift.option;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OptionRepository extends JpaRepository<Option, Long> {
     List<Option> findByProductId(Long productId);
 
     boolean existsByProductIdAndName(Long productId, String name);
+
+    // order paths price the option, so the product is fetched in the same select
+    @EntityGraph(attributePaths = "product")
+    Optional<Option> findWithProductById(Long id);
+
+    @EntityGraph(attributePaths = "product")
+    List<Option> findAllByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /*
+     * Guarded decrement in a single statement: the row lock taken by the UPDATE is the only
+     * synchronization, and the WHERE clause rejects any decrement that would oversell.
+     * Returns the affected-row count (0 when the option is missing or stock is insufficient).
+     * The statement bypasses entity listeners, so callers bump the option list version themselves.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Option o set o.quantity = o.quantity - :quantity where o.id = :id and o.quantity >= :quantity")
+    int subtractQuantity(@Param("id") Long id, @Param("quantity") int quantity);
 }
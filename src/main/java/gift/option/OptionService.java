@@ -1,21 +1,34 @@
 package gift.option;
 
+import gift.common.CollectionVersion;
+import gift.common.CollectionVersions;
+import gift.common.ErrorCode;
+import gift.common.InvalidRequestException;
 import gift.common.NameValidator;
+import gift.common.NotFoundException;
 import gift.product.Product;
 import gift.product.ProductService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.SortedMap;
 
 @Service
 public class OptionService {
     private final OptionRepository optionRepository;
     private final ProductService productService;
+    private final CollectionVersions collectionVersions;
 
-    public OptionService(OptionRepository optionRepository, ProductService productService) {
+    public OptionService(
+        OptionRepository optionRepository,
+        ProductService productService,
+        CollectionVersions collectionVersions
+    ) {
         this.optionRepository = optionRepository;
         this.productService = productService;
+        this.collectionVersions = collectionVersions;
     }
 
     public List<Option> findByProductId(Long productId) {
@@ -23,16 +36,21 @@ public class OptionService {
         return optionRepository.findByProductId(productId);
     }
 
+    public CollectionVersion collectionVersionByProductId(Long productId) {
+        productService.findVersionById(productId);
+        return collectionVersions.current(Option.collectionKey(productId));
+    }
+
     public Option findById(Long id) {
         return optionRepository.findById(id)
-            .orElseThrow(() -> new NoSuchElementException("Option not found. id=" + id));
+            .orElseThrow(() -> new NotFoundException(ErrorCode.OPTION_NOT_FOUND, "Option not found. id=" + id));
     }
 
     public Option create(Long productId, String name, int quantity) {
         validateName(name);
-        Product product = productService.findById(productId);
+        Product product = productService.getReference(productId);
         if (optionRepository.existsByProductIdAndName(productId, name)) {
-            throw new IllegalArgumentException("Option name already exists.");
+            throw new InvalidRequestException(ErrorCode.DUPLICATE_OPTION_NAME, "Option name already exists.");
         }
         return optionRepository.save(new Option(product, name, quantity));
     }
@@ -42,28 +60,58 @@ public class OptionService {
 
         List<Option> options = optionRepository.findByProductId(productId);
         if (options.size() <= 1) {
-            throw new IllegalArgumentException("Cannot delete the last option of a product.");
+            throw new InvalidRequestException(ErrorCode.LAST_OPTION, "Cannot delete the last option of a product.");
         }
 
         Option option = optionRepository.findById(optionId)
-            .orElseThrow(() -> new NoSuchElementException("Option not found. id=" + optionId));
+            .orElseThrow(() -> new NotFoundException(ErrorCode.OPTION_NOT_FOUND, "Option not found. id=" + optionId));
         if (!option.getProduct().getId().equals(productId)) {
-            throw new NoSuchElementException("Option not found. id=" + optionId);
+            throw new NotFoundException(ErrorCode.OPTION_NOT_FOUND, "Option not found. id=" + optionId);
         }
 
         optionRepository.delete(option);
     }
 
+    @Transactional
     public Option subtractQuantity(Long optionId, int quantity) {
-        Option option = findById(optionId);
-        option.subtractQuantity(quantity);
-        return optionRepository.save(option);
+        if (optionRepository.subtractQuantity(optionId, quantity) == 0) {
+            // distinguish a missing option (404) from insufficient stock (400)
+            findById(optionId);
+            throw new InvalidRequestException(ErrorCode.OUT_OF_STOCK, "Subtract amount exceeds current stock.");
+        }
+        Option option = optionRepository.findWithProductById(optionId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.OPTION_NOT_FOUND, "Option not found. id=" + optionId));
+        collectionVersions.bump(option.collectionKey());
+        return option;
+    }
+
+    /*
+     * Decrements several options in one transaction. Rows are updated (and therefore locked)
+     * in ascending option id order so that concurrent checkouts cannot deadlock each other.
+     * Returns the updated options, loaded with a single query, in ascending id order.
+     */
+    @Transactional
+    public List<Option> subtractQuantities(SortedMap<Long, Integer> quantitiesByOptionId) {
+        for (Map.Entry<Long, Integer> entry : quantitiesByOptionId.entrySet()) {
+            if (optionRepository.subtractQuantity(entry.getKey(), entry.getValue()) == 0) {
+                findById(entry.getKey());
+                throw new InvalidRequestException(ErrorCode.OUT_OF_STOCK, "Subtract amount exceeds current stock. optionId=" + entry.getKey());
+            }
+        }
+        List<Option> options = optionRepository.findAllByIdInOrderByIdAsc(quantitiesByOptionId.keySet());
+        // one bump per product, in a fixed order, so checkouts lock catalog_version rows without deadlocking
+        options.stream()
+            .map(Option::collectionKey)
+            .distinct()
+            .sorted()
+            .forEach(collectionVersions::bump);
+        return options;
     }
 
     private void validateName(String name) {
         List<String> errors = NameValidator.validate(name, "Option name", 50);
         if (!errors.isEmpty()) {
-            throw new IllegalArgumentException(String.join(", ", errors));
+            throw new InvalidRequestException(String.join(", ", errors));
         }
     }
 }
@@ -0,0 +1,21 @@
+package gift.order;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/order-notifications")
+public class AdminOrderNotificationController {
+    private final OrderNotificationDispatcher dispatcher;
+
+    public AdminOrderNotificationController(OrderNotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<OrderNotificationStats> getStats() {
+        return ResponseEntity.ok(dispatcher.stats());
+    }
+}
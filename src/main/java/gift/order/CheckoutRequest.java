@@ -0,0 +1,20 @@
+package gift.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CheckoutRequest(
+    @NotEmpty @Size(max = 100) List<@Valid Item> items,
+    String message
+) {
+    public record Item(
+        @NotNull Long optionId,
+        @Min(1) int quantity
+    ) {
+    }
+}
@@ -0,0 +1,15 @@
+package gift.order;
+
+import java.util.List;
+
+public record CheckoutResponse(
+    List<OrderResponse> orders,
+    int totalPrice
+) {
+    public static CheckoutResponse from(List<Order> orders) {
+        var totalPrice = orders.stream()
+            .mapToInt(order -> order.getOption().getProduct().getPrice() * order.getQuantity())
+            .sum();
+        return new CheckoutResponse(orders.stream().map(OrderResponse::from).toList(), totalPrice);
+    }
+}
@@ -1,6 +1,5 @@
 package gift.order;
 
-import gift.product.Product;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.RestClient;
@@ -13,9 +12,7 @@ public class KakaoMessageClient {
         this.restClient = builder.build();
     }
 
-    public void sendToMe(String accessToken, Order order, Product product) {
-        var templateObject = buildTemplate(order, product);
-
+    public void sendToMe(String accessToken, String templateObject) {
         var params = new LinkedMultiValueMap<String, String>();
         params.add("template_object", templateObject);
 
@@ -27,25 +24,4 @@ public class KakaoMessageClient {
             .retrieve()
             .toBodilessEntity();
     }
-
-    private String buildTemplate(Order order, Product product) {
-        var totalPrice = String.format("%,d", product.getPrice() * order.getQuantity());
-        var message = order.getMessage() != null && !order.getMessage().isBlank()
-            ? "\\n\\n💌 " + order.getMessage()
-            : "";
-        return """
-            {
-                "object_type": "text",
-                "text": "🎁 선물이 도착했어요!\\n\\n%s (%s)\\n수량: %d개\\n금액: %s원%s",
-                "link": {},
-                "button_title": "선물 확인하기"
-            }
-            """.formatted(
-            product.getName(),
-            order.getOption().getName(),
-            order.getQuantity(),
-            totalPrice,
-            message
-        );
-    }
 }
@@ -0,0 +1,82 @@
+package gift.order;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.product.Product;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Renders the Kakao "send to me" template_object for an order.
+ * The rendered JSON is captured in the notification outbox at order time,
+ * so delivery never needs to reload the order, option or product.
+ * Names and messages are user input, so the template is serialized by Jackson rather than pasted into JSON text.
+ */
+public class KakaoMessageTemplate {
+    /*
+     * A checkout lists at most this many items and summarizes the rest, so the payload stays well inside the
+     * outbox column (2000 characters) for the largest cart: five lines of product (15) and option (50) names
+     * plus a 255-character message come to about 750.
+     */
+    static final int MAX_LISTED_ITEMS = 5;
+
+    private KakaoMessageTemplate() {
+    }
+
+    public static String forOrder(ObjectMapper objectMapper, Order order, Product product) {
+        var text = "🎁 선물이 도착했어요!\n\n%s (%s)\n수량: %d개\n금액: %,d원%s".formatted(
+            product.getName(),
+            order.getOption().getName(),
+            order.getQuantity(),
+            (long) product.getPrice() * order.getQuantity(),
+            messageLine(order.getMessage())
+        );
+        return render(objectMapper, text);
+    }
+
+    public static String forCheckout(ObjectMapper objectMapper, List<Order> orders) {
+        var lines = new StringBuilder();
+        long totalPrice = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            var order = orders.get(i);
+            var product = order.getOption().getProduct();
+            if (i < MAX_LISTED_ITEMS) {
+                lines.append("\n• %s (%s) x%d".formatted(
+                    product.getName(), order.getOption().getName(), order.getQuantity()));
+            }
+            totalPrice += (long) product.getPrice() * order.getQuantity();
+        }
+        if (orders.size() > MAX_LISTED_ITEMS) {
+            lines.append("\n외 %d건".formatted(orders.size() - MAX_LISTED_ITEMS));
+        }
+        var text = "🎁 선물 %d개가 도착했어요!\n%s\n금액: %,d원%s".formatted(
+            orders.size(),
+            lines,
+            totalPrice,
+            messageLine(orders.get(0).getMessage())
+        );
+        return render(objectMapper, text);
+    }
+
+    private static String messageLine(String message) {
+        return message != null && !message.isBlank() ? "\n\n💌 " + message : "";
+    }
+
+    private static String render(ObjectMapper objectMapper, String text) {
+        try {
+            return objectMapper.writeValueAsString(new TextTemplate("text", text, Map.of(), "선물 확인하기"));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render Kakao message template.", e);
+        }
+    }
+
+    private record TextTemplate(
+        @JsonProperty("object_type") String objectType,
+        @JsonProperty("text") String text,
+        @JsonProperty("link") Map<String, String> link,
+        @JsonProperty("button_title") String buttonTitle
+    ) {
+    }
+}
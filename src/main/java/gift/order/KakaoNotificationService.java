@@ -1,25 +1,40 @@
 package gift.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import gift.member.Member;
 import gift.option.Option;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class KakaoNotificationService {
-    private final KakaoMessageClient kakaoMessageClient;
+    private final OrderNotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
 
-    public KakaoNotificationService(KakaoMessageClient kakaoMessageClient) {
-        this.kakaoMessageClient = kakaoMessageClient;
+    public KakaoNotificationService(OrderNotificationOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
     }
 
-    public void sendOrderNotification(Member member, Order order, Option option) {
+    /*
+     * Records the notification in the outbox; must be called inside the order transaction.
+     * Delivery happens asynchronously in OrderNotificationDispatcher.
+     */
+    public void enqueueOrderNotification(Member member, Order order, Option option) {
         if (member.getKakaoAccessToken() == null) {
             return;
         }
-        try {
-            var product = option.getProduct();
-            kakaoMessageClient.sendToMe(member.getKakaoAccessToken(), order, product);
-        } catch (Exception ignored) {
+        var payload = KakaoMessageTemplate.forOrder(objectMapper, order, option.getProduct());
+        outboxRepository.save(new OrderNotificationOutbox(order.getId(), member.getId(), payload));
+    }
+
+    // one combined notification for a multi-item checkout
+    public void enqueueCheckoutNotification(Member member, List<Order> orders) {
+        if (member.getKakaoAccessToken() == null || orders.isEmpty()) {
+            return;
         }
+        var payload = KakaoMessageTemplate.forCheckout(objectMapper, orders);
+        outboxRepository.save(new OrderNotificationOutbox(orders.get(0).getId(), member.getId(), payload));
     }
 }
@@ -1,14 +1,21 @@
 package gift.order;
 
+import gift.auth.AuthMember;
 import gift.auth.LoginMember;
+import gift.common.ErrorCode;
+import gift.common.ErrorResponse;
 import gift.member.Member;
 import jakarta.validation.Valid;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -16,28 +23,81 @@ import java.net.URI;
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final OrderIdempotencyStore idempotencyStore;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderIdempotencyStore idempotencyStore) {
         this.orderService = orderService;
+        this.idempotencyStore = idempotencyStore;
     }
 
+    /*
+     * Without "after" this is the classic offset page. With "after" (empty for the first page)
+     * it switches to keyset mode: seeks past the cursor and skips the count query.
+     */
     @GetMapping
     public ResponseEntity<?> getOrders(
-        @LoginMember Member member,
+        @LoginMember AuthMember member,
+        @RequestParam(required = false) String after,
         Pageable pageable
     ) {
-        var orders = orderService.findByMemberId(member.getId(), pageable).map(OrderResponse::from);
+        if (after != null) {
+            var cursor = after.isBlank() ? null : OrderCursor.decode(after);
+            var size = pageable.getPageSize();
+            var orders = orderService.findByMemberIdAfter(member.id(), cursor, size + 1);
+            return ResponseEntity.ok(OrderSliceResponse.of(orders, size));
+        }
+
+        var orders = orderService.findByMemberId(member.id(), pageable).map(OrderResponse::from);
         return ResponseEntity.ok(orders);
     }
 
     @PostMapping
     public ResponseEntity<?> createOrder(
         @LoginMember Member member,
+        @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
         @Valid @RequestBody OrderRequest request
     ) {
-        var saved = orderService.createOrder(member, request.optionId(), request.quantity(), request.message());
-        return ResponseEntity.created(URI.create("/api/orders/" + saved.getId()))
-            .body(OrderResponse.from(saved));
+        if (idempotencyKey != null) {
+            var replayed = idempotencyStore.find(member.getId(), idempotencyKey, request);
+            if (replayed.isPresent()) {
+                return replay(replayed.get());
+            }
+        }
+
+        try {
+            var saved = orderService.createOrder(
+                member, request.optionId(), request.quantity(), request.message(), idempotencyKey);
+            return ResponseEntity.created(URI.create("/api/orders/" + saved.getId()))
+                .body(OrderResponse.from(saved));
+        } catch (DataIntegrityViolationException e) {
+            if (idempotencyKey == null || !OrderIdempotencyStore.isDuplicateKey(e)) {
+                throw e;
+            }
+            // a concurrent request with the same key won the race
+            return idempotencyStore.find(member.getId(), idempotencyKey, request)
+                .<ResponseEntity<?>>map(this::replay)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ErrorResponse.of(
+                        ErrorCode.IDEMPOTENCY_KEY_IN_USE, "A request with this Idempotency-Key is already in progress.")));
+        }
+    }
+
+    @PostMapping("/checkout")
+    public ResponseEntity<CheckoutResponse> checkout(
+        @LoginMember Member member,
+        @Valid @RequestBody CheckoutRequest request
+    ) {
+        var saved = orderService.checkout(member, request.items(), request.message());
+        return ResponseEntity.status(HttpStatus.CREATED).body(CheckoutResponse.from(saved));
+    }
+
+    private ResponseEntity<?> replay(OrderResponse response) {
+        return ResponseEntity.created(URI.create("/api/orders/" + response.id()))
+            .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+            .body(response);
     }
 }
@@ -0,0 +1,38 @@
+package gift.order;
+
+import gift.common.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+ * Opaque keyset cursor for order history: the (orderDateTime, id) of the last row on a page.
+ * Encoded as URL-safe Base64 so clients treat it as a token.
+ */
+public record OrderCursor(LocalDateTime orderDateTime, Long id) {
+    private static final String SEPARATOR = "|";
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getId());
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new OrderCursor(
+                LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor.");
+        }
+    }
+
+    public String encode() {
+        var raw = orderDateTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
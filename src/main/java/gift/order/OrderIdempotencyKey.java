@@ -0,0 +1,104 @@
+package gift.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDateTime;
+
+/*
+ * An Idempotency-Key used for order creation, scoped per member.
+ * The row is inserted at the start of the order transaction, so a concurrent retry with the same key
+ * blocks on the unique index and then sees the committed response.
+ * requestHash fingerprints the request the key was first used with; rows written before it existed have none.
+ */
+@Entity
+@Table(
+    name = "order_idempotency_key",
+    uniqueConstraints = @UniqueConstraint(
+        name = OrderIdempotencyKey.UNIQUE_CONSTRAINT,
+        columnNames = {"member_id", "idempotency_key"}
+    ),
+    indexes = @Index(name = "idx_order_idempotency_expires_at", columnList = "expires_at")
+)
+public class OrderIdempotencyKey {
+    static final String UNIQUE_CONSTRAINT = "uk_order_idempotency_member_key";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(length = 2000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    protected OrderIdempotencyKey() {
+    }
+
+    public OrderIdempotencyKey(Long memberId, String idempotencyKey, String requestHash, LocalDateTime expiresAt) {
+        this.memberId = memberId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public boolean matchesRequest(String requestHash) {
+        return this.requestHash == null || this.requestHash.equals(requestHash);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,156 @@
+package gift.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.common.BoundedCache;
+import gift.common.ErrorCode;
+import gift.common.InvalidRequestException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+
+/*
+ * Stores the serialized OrderResponse for each Idempotency-Key.
+ * The order_idempotency_key table is the source of truth; a bounded LRU cache in front of it answers
+ * hot replays, and expired rows are purged periodically. Responses are cached only after they have
+ * been read back from the table, so a rolled-back order can never be replayed. A cached response expires
+ * with its row, not a fixed time after it was cached.
+ * Each key is bound to a SHA-256 fingerprint of the request it was first used with; reusing the key with a
+ * different option, quantity or message is rejected with 422 instead of replaying the first order.
+ */
+@Component
+public class OrderIdempotencyStore {
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderIdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final OrderIdempotencyProperties properties;
+    private final BoundedCache<CacheKey, CachedResponse> cache;
+
+    public OrderIdempotencyStore(
+        OrderIdempotencyKeyRepository repository,
+        ObjectMapper objectMapper,
+        OrderIdempotencyProperties properties
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.cache = new BoundedCache<>(properties.cacheSize(), properties.ttl());
+    }
+
+    public Optional<OrderResponse> find(Long memberId, String idempotencyKey, OrderRequest request) {
+        var cacheKey = new CacheKey(memberId, idempotencyKey);
+        var requestHash = fingerprint(request);
+        var now = LocalDateTime.now();
+        var cached = cache.get(cacheKey);
+        if (cached.isPresent()) {
+            if (!cached.get().expiresAt().isBefore(now)) {
+                if (!cached.get().requestHash().equals(requestHash)) {
+                    throw keyReused();
+                }
+                return Optional.of(cached.get().response());
+            }
+            cache.invalidate(cacheKey);
+        }
+        var record = repository.findByMemberIdAndIdempotencyKey(memberId, idempotencyKey)
+            .filter(found -> !found.isExpired(now));
+        if (record.isEmpty()) {
+            return Optional.empty();
+        }
+        // checked before the response exists too, so a different request racing the first one is not told to retry
+        if (!record.get().matchesRequest(requestHash)) {
+            throw keyReused();
+        }
+        if (record.get().getResponseBody() == null) {
+            return Optional.empty();
+        }
+        var response = deserialize(record.get().getResponseBody());
+        cache.put(cacheKey, new CachedResponse(response, requestHash, record.get().getExpiresAt()));
+        return Optional.of(response);
+    }
+
+    // must run inside the order transaction; a concurrent duplicate fails on the unique constraint
+    public OrderIdempotencyKey reserve(Long memberId, String idempotencyKey, OrderRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters.");
+        }
+        var now = LocalDateTime.now();
+        repository.findByMemberIdAndIdempotencyKey(memberId, idempotencyKey)
+            .filter(record -> record.isExpired(now))
+            .ifPresent(expired -> {
+                repository.delete(expired);
+                repository.flush();
+            });
+        return repository.saveAndFlush(
+            new OrderIdempotencyKey(memberId, idempotencyKey, fingerprint(request), now.plus(properties.ttl())));
+    }
+
+    public void complete(OrderIdempotencyKey reservation, OrderResponse response) {
+        reservation.complete(serialize(response));
+        repository.save(reservation);
+    }
+
+    // true only for a violation of the (member_id, idempotency_key) unique index, i.e. a concurrent duplicate
+    public static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return namesConstraint(violation.getConstraintName());
+            }
+        }
+        // drivers whose constraint name Hibernate cannot extract still name it in the message
+        return namesConstraint(e.getMostSpecificCause().getMessage());
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        repository.deleteExpired(LocalDateTime.now());
+    }
+
+    String fingerprint(OrderRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint order request.", e);
+        }
+    }
+
+    private static InvalidRequestException keyReused() {
+        return new InvalidRequestException(ErrorCode.IDEMPOTENCY_KEY_REUSED,
+            "Idempotency-Key was already used with a different request.");
+    }
+
+    private String serialize(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order response.", e);
+        }
+    }
+
+    private OrderResponse deserialize(String body) {
+        try {
+            return objectMapper.readValue(body, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize order response.", e);
+        }
+    }
+
+    private static boolean namesConstraint(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(OrderIdempotencyKey.UNIQUE_CONSTRAINT);
+    }
+
+    private record CacheKey(Long memberId, String idempotencyKey) {
+    }
+
+    private record CachedResponse(OrderResponse response, String requestHash, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,191 @@
+package gift.order;
+
+import gift.member.Member;
+import gift.member.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/*
+ * Drains the order notification outbox in the background.
+ * A single virtual-thread loop polls PENDING rows in batches; each Kakao call in a batch runs
+ * on its own virtual thread. Due rows are claimed with a conditional update before any call is made,
+ * so instances polling the same outbox deliver disjoint batches. Failed deliveries are retried with exponential backoff until
+ * maxAttempts, after which the row is parked as FAILED.
+ */
+@Component
+public class OrderNotificationDispatcher implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(OrderNotificationDispatcher.class);
+
+    private final OrderNotificationOutboxRepository outboxRepository;
+    private final MemberRepository memberRepository;
+    private final KakaoMessageClient kakaoMessageClient;
+    private final OrderNotificationProperties properties;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OrderNotificationDispatcher(
+        OrderNotificationOutboxRepository outboxRepository,
+        MemberRepository memberRepository,
+        KakaoMessageClient kakaoMessageClient,
+        OrderNotificationProperties properties
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.memberRepository = memberRepository;
+        this.kakaoMessageClient = kakaoMessageClient;
+        this.properties = properties;
+    }
+
+    /**
+     * Delivers one batch of due notifications.
+     *
+     * @return the number of outbox rows processed
+     */
+    public int dispatchPending() {
+        List<OrderNotificationOutbox> batch = claimDue();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // the token is read at delivery time so a re-login can refresh it
+        Map<Long, String> tokens = memberRepository.findAllById(
+                batch.stream().map(OrderNotificationOutbox::getMemberId).distinct().toList())
+            .stream()
+            .filter(member -> member.getKakaoAccessToken() != null)
+            .collect(Collectors.toMap(Member::getId, Member::getKakaoAccessToken));
+
+        List<Future<?>> deliveries = new ArrayList<>(batch.size());
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (OrderNotificationOutbox entry : batch) {
+                String token = tokens.get(entry.getMemberId());
+                deliveries.add(token == null
+                    ? null
+                    : executor.submit(() -> kakaoMessageClient.sendToMe(token, entry.getPayload())));
+            }
+        }
+
+        LocalDateTime completedAt = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            applyResult(batch.get(i), deliveries.get(i), completedAt);
+        }
+        outboxRepository.saveAll(batch);
+        return batch.size();
+    }
+
+    public OrderNotificationStats stats() {
+        long lagMillis = outboxRepository.findFirstByStatusOrderByIdAsc(OrderNotificationOutbox.Status.PENDING)
+            .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+            .orElse(0L);
+        return new OrderNotificationStats(
+            outboxRepository.countByStatus(OrderNotificationOutbox.Status.PENDING),
+            outboxRepository.countByStatus(OrderNotificationOutbox.Status.FAILED),
+            Math.max(lagMillis, 0L),
+            sent.sum(),
+            failedAttempts.sum()
+        );
+    }
+
+    // only rows this call's token won are delivered; the rest belong to another instance.
+    // claim-timeout must outlast a whole batch of Kakao calls, which the HTTP client timeouts bound
+    private List<OrderNotificationOutbox> claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = outboxRepository.findDueIds(
+            OrderNotificationOutbox.Status.PENDING, now, Limit.of(properties.batchSize()));
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        String token = UUID.randomUUID().toString();
+        int claimed = outboxRepository.claim(due, OrderNotificationOutbox.Status.PENDING, now, token,
+            now.plus(properties.claimTimeout()));
+        return claimed == 0 ? List.of() : outboxRepository.findByClaimTokenOrderByIdAsc(token);
+    }
+
+    private void applyResult(OrderNotificationOutbox entry, Future<?> delivery, LocalDateTime now) {
+        if (delivery == null) {
+            entry.markUndeliverable("Kakao access token is missing.");
+            return;
+        }
+        try {
+            delivery.get();
+            entry.markSent(now);
+            sent.increment();
+        } catch (ExecutionException | InterruptedException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            entry.markFailed(cause.toString(), now, properties.maxAttempts(),
+                properties.initialBackoff(), properties.maxBackoff());
+            failedAttempts.increment();
+            log.warn("Kakao notification failed. outboxId={}, attempts={}", entry.getId(), entry.getAttempts(), cause);
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                if (dispatchPending() < properties.batchSize()) {
+                    Thread.sleep(properties.pollInterval());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Order notification dispatch failed.", e);
+                sleepQuietly(properties.pollInterval());
+            }
+        }
+    }
+
+    private void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.dispatcherEnabled() || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("order-notification-dispatcher").start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(properties.pollInterval().toMillis() * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,144 @@
+package gift.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/*
+ * A pending Kakao order notification, written in the same transaction as the order.
+ * The dispatcher drains PENDING rows whose nextAttemptAt has passed; rows survive restarts.
+ * A dispatcher claims a row before delivering it by stamping claimToken and moving nextAttemptAt to the end of
+ * its lease, so other instances skip the row; a row whose dispatcher died becomes due again when the lease ends.
+ */
+@Entity
+@Table(
+    name = "order_notification_outbox",
+    indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+)
+public class OrderNotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    protected OrderNotificationOutbox() {
+    }
+
+    public OrderNotificationOutbox(Long orderId, Long memberId, String payload) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.attempts++;
+        this.status = Status.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    // exponential backoff: initialBackoff * 2^(attempts - 1), capped at maxBackoff
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+            return;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(this.attempts - 1, 20));
+        this.nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+
+    public void markUndeliverable(String reason) {
+        this.status = Status.FAILED;
+        this.lastError = reason;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public enum Status {
+        PENDING, SENT, FAILED
+    }
+}
@@ -0,0 +1,48 @@
+package gift.order;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderNotificationOutboxRepository extends JpaRepository<OrderNotificationOutbox, Long> {
+    @Query("select o.id from OrderNotificationOutbox o where o.status = :status and o.nextAttemptAt <= :now order by o.id")
+    List<Long> findDueIds(
+        @Param("status") OrderNotificationOutbox.Status status,
+        @Param("now") LocalDateTime now,
+        Limit limit
+    );
+
+    /**
+     * Leases due rows to one dispatcher by stamping them with its token and pushing their next attempt out to
+     * {@code leaseUntil}. Rows another dispatcher claimed first are no longer due and are left alone.
+     *
+     * @return the affected-row count (the number of rows this dispatcher now owns)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update OrderNotificationOutbox o set o.claimToken = :token, o.nextAttemptAt = :leaseUntil
+        where o.id in :ids and o.status = :status and o.nextAttemptAt <= :now
+        """)
+    int claim(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") OrderNotificationOutbox.Status status,
+        @Param("now") LocalDateTime now,
+        @Param("token") String token,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    List<OrderNotificationOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    long countByStatus(OrderNotificationOutbox.Status status);
+
+    Optional<OrderNotificationOutbox> findFirstByStatusOrderByIdAsc(OrderNotificationOutbox.Status status);
+}
@@ -0,0 +1,18 @@
+package gift.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "order.notification")
+public record OrderNotificationProperties(
+    @DefaultValue("true") boolean dispatcherEnabled,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("5s") Duration initialBackoff,
+    @DefaultValue("10m") Duration maxBackoff,
+    @DefaultValue("5m") Duration claimTimeout
+) {
+}
@@ -0,0 +1,14 @@
+package gift.order;
+
+/*
+ * Snapshot of the notification outbox.
+ * lagMillis is the age of the oldest PENDING row (0 when the queue is empty).
+ */
+public record OrderNotificationStats(
+    long pending,
+    long failed,
+    long lagMillis,
+    long sentSinceStartup,
+    long failedAttemptsSinceStartup
+) {
+}
@@ -1,9 +1,40 @@
 package gift.order;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Page<Order> findByMemberId(Long memberId, Pageable pageable);
+
+    // keyset (seek) pagination on (member_id, order_date_time, id); no count query
+    List<Order> findByMemberIdOrderByOrderDateTimeDescIdDesc(Long memberId, Limit limit);
+
+    @Query("""
+        select o from Order o
+        where o.memberId = :memberId
+          and (o.orderDateTime < :orderDateTime or (o.orderDateTime = :orderDateTime and o.id < :id))
+        order by o.orderDateTime desc, o.id desc
+        """)
+    List<Order> findByMemberIdAfter(
+        @Param("memberId") Long memberId,
+        @Param("orderDateTime") LocalDateTime orderDateTime,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    // forward-only cursor for exports; on MySQL the hint needs useCursorFetch=true to avoid buffering the result
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select o from Order o order by o.id")
+    Stream<Order> streamAll();
 }
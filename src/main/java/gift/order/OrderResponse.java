@@ -1,10 +1,18 @@
 package gift.order;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 import java.time.LocalDateTime;
 
+/*
+ * Reads only the option id, which the lazy option proxy carries without a select;
+ * order pages therefore need no join.
+ * Snowflake ids exceed 2^53, so they are written as strings that JavaScript clients can hold without rounding.
+ */
 public record OrderResponse(
-    Long id,
-    Long optionId,
+    @JsonSerialize(using = ToStringSerializer.class) Long id,
+    @JsonSerialize(using = ToStringSerializer.class) Long optionId,
     int quantity,
     LocalDateTime orderDateTime,
     String message
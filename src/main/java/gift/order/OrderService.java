@@ -1,51 +1,162 @@
 package gift.order;
 
+import gift.common.AfterCommit;
+import gift.common.InvalidRequestException;
 import gift.member.Member;
-import gift.member.MemberRepository;
+import gift.member.MemberService;
 import gift.option.Option;
 import gift.option.OptionService;
+import gift.popularity.PopularityTracker;
+import gift.popularity.TrendingTracker;
+import gift.product.Product;
+import gift.recommendation.CoOccurrenceRecommender;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 @Service
 public class OrderService {
     private final OrderRepository orderRepository;
     private final OptionService optionService;
-    private final MemberRepository memberRepository;
+    private final MemberService memberService;
     private final KakaoNotificationService kakaoNotificationService;
+    private final OrderIdempotencyStore idempotencyStore;
+    private final PopularityTracker popularityTracker;
+    private final TrendingTracker trendingTracker;
+    private final CoOccurrenceRecommender coOccurrenceRecommender;
 
     public OrderService(
         OrderRepository orderRepository,
         OptionService optionService,
-        MemberRepository memberRepository,
-        KakaoNotificationService kakaoNotificationService
+        MemberService memberService,
+        KakaoNotificationService kakaoNotificationService,
+        OrderIdempotencyStore idempotencyStore,
+        PopularityTracker popularityTracker,
+        TrendingTracker trendingTracker,
+        CoOccurrenceRecommender coOccurrenceRecommender
     ) {
         this.orderRepository = orderRepository;
         this.optionService = optionService;
-        this.memberRepository = memberRepository;
+        this.memberService = memberService;
         this.kakaoNotificationService = kakaoNotificationService;
+        this.idempotencyStore = idempotencyStore;
+        this.popularityTracker = popularityTracker;
+        this.trendingTracker = trendingTracker;
+        this.coOccurrenceRecommender = coOccurrenceRecommender;
     }
 
     public Page<Order> findByMemberId(Long memberId, Pageable pageable) {
         return orderRepository.findByMemberId(memberId, pageable);
     }
 
+    /*
+     * Keyset page of a member's orders, newest first. Fetches up to limit rows strictly after the cursor;
+     * a null cursor starts from the newest order.
+     */
+    public List<Order> findByMemberIdAfter(Long memberId, OrderCursor cursor, int limit) {
+        if (cursor == null) {
+            return orderRepository.findByMemberIdOrderByOrderDateTimeDescIdDesc(memberId, Limit.of(limit));
+        }
+        return orderRepository.findByMemberIdAfter(memberId, cursor.orderDateTime(), cursor.id(), Limit.of(limit));
+    }
+
+    @Transactional
     public Order createOrder(Member member, Long optionId, int quantity, String message) {
-        // subtract stock
+        return createOrder(member, optionId, quantity, message, null);
+    }
+
+    @Transactional
+    public Order createOrder(Member member, Long optionId, int quantity, String message, String idempotencyKey) {
+        // claim the idempotency key first so a concurrent retry blocks before touching stock
+        var reservation = idempotencyKey != null
+            ? idempotencyStore.reserve(member.getId(), idempotencyKey, new OrderRequest(optionId, quantity, message))
+            : null;
+
+        // subtract stock (guarded single-statement decrement)
         Option option = optionService.subtractQuantity(optionId, quantity);
 
-        // deduct points
-        var price = option.getProduct().getPrice() * quantity;
-        member.deductPoint(price);
-        memberRepository.save(member);
+        // deduct points (guarded single-row update + ledger entry)
+        var price = totalPrice(List.of(option), Map.of(option.getId(), quantity));
+        memberService.deductPoint(member.getId(), price);
 
         // save order
         var saved = orderRepository.save(new Order(option, member.getId(), quantity, message));
 
-        // best-effort kakao notification
-        kakaoNotificationService.sendOrderNotification(member, saved, option);
+        // kakao notification is written to the outbox and delivered after commit
+        kakaoNotificationService.enqueueOrderNotification(member, saved, option);
 
+        if (reservation != null) {
+            idempotencyStore.complete(reservation, OrderResponse.from(saved));
+        }
+
+        recordActivity(member.getId(), List.of(option.getProduct()));
         return saved;
     }
+
+    /*
+     * Multi-item checkout: all stock decrements, one point deduction, all order rows and a single
+     * combined notification commit together. Duplicate lines for the same option are merged.
+     */
+    @Transactional
+    public List<Order> checkout(Member member, List<CheckoutRequest.Item> items, String message) {
+        SortedMap<Long, Integer> quantitiesByOptionId = new TreeMap<>();
+        for (CheckoutRequest.Item item : items) {
+            try {
+                quantitiesByOptionId.merge(item.optionId(), item.quantity(), Math::addExact);
+            } catch (ArithmeticException e) {
+                throw new InvalidRequestException("Quantity is too large. optionId=" + item.optionId());
+            }
+        }
+
+        // subtract stock in ascending option id order
+        List<Option> options = optionService.subtractQuantities(quantitiesByOptionId);
+
+        // deduct points once for the whole cart
+        var totalPrice = totalPrice(options, quantitiesByOptionId);
+        memberService.deductPoint(member.getId(), totalPrice);
+
+        // save orders (batched by hibernate.jdbc.batch_size)
+        var saved = orderRepository.saveAll(options.stream()
+            .map(option -> new Order(option, member.getId(), quantitiesByOptionId.get(option.getId()), message))
+            .toList());
+
+        kakaoNotificationService.enqueueCheckoutNotification(member, saved);
+
+        recordActivity(member.getId(), options.stream().map(Option::getProduct).toList());
+        return saved;
+    }
+
+    // summed as long and rejected past the int point balance, so a large cart never wraps to a small or negative total
+    private static int totalPrice(List<Option> options, Map<Long, Integer> quantitiesByOptionId) {
+        long total = 0;
+        for (Option option : options) {
+            total += (long) option.getProduct().getPrice() * quantitiesByOptionId.get(option.getId());
+            if (total > Integer.MAX_VALUE) {
+                throw new InvalidRequestException("Order total exceeds the maximum payable amount.");
+            }
+        }
+        return (int) total;
+    }
+
+    // values are read now, while the products are still attached, and counted only once the order commits
+    private void recordActivity(Long memberId, List<Product> products) {
+        List<ProductActivity> activities = products.stream()
+            .map(product -> new ProductActivity(product.getId(), product.getName(), product.getCategory().getId()))
+            .toList();
+        AfterCommit.run(() -> activities.forEach(activity -> {
+            popularityTracker.recordOrder(activity.productId());
+            trendingTracker.record(activity.categoryId(), activity.productId(), activity.productName());
+            coOccurrenceRecommender.recordOrder(memberId, activity.productId());
+        }));
+    }
+
+    private record ProductActivity(Long productId, String productName, Long categoryId) {
+    }
 }
@@ -0,0 +1,19 @@
+package gift.order;
+
+import java.util.List;
+
+/*
+ * One page of order history in keyset mode. nextCursor is null on the last page.
+ */
+public record OrderSliceResponse(
+    List<OrderResponse> content,
+    String nextCursor,
+    boolean hasNext
+) {
+    public static OrderSliceResponse of(List<Order> orders, int size) {
+        var hasNext = orders.size() > size;
+        var page = hasNext ? orders.subList(0, size) : orders;
+        var nextCursor = hasNext ? OrderCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new OrderSliceResponse(page.stream().map(OrderResponse::from).toList(), nextCursor, hasNext);
+    }
+}
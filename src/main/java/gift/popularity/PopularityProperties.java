@@ -0,0 +1,18 @@
+package gift.popularity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product.popularity")
+public record PopularityProperties(
+    @DefaultValue("1") long viewWeight,
+    @DefaultValue("5") long wishWeight,
+    @DefaultValue("10") long orderWeight,
+    @DefaultValue("500") int flushBatchSize
+) {
+    public PopularityProperties {
+        if (flushBatchSize <= 0) {
+            throw new IllegalArgumentException("product.popularity.flush-batch-size must be positive.");
+        }
+    }
+}
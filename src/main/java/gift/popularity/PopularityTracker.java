@@ -0,0 +1,162 @@
+package gift.popularity;
+
+import gift.autocomplete.AutocompleteService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Counts product views, wishes and orders in memory; recording is a LongAdder increment and never touches
+ * the database. A scheduled flush drains the counters into product_stats with one batched update for known
+ * rows and one batched insert for new ones per chunk, then pushes the new scores to autocomplete.
+ * A chunk that fails to write is added back to the counters and retried on the next flush. Counts recorded
+ * since the last flush are lost if the process dies, which is acceptable for a ranking signal.
+ */
+@Component
+public class PopularityTracker {
+    private static final Logger log = LoggerFactory.getLogger(PopularityTracker.class);
+
+    private static final String UPDATE_STATS = """
+        update product_stats
+        set view_count = view_count + ?, wish_count = wish_count + ?, order_count = order_count + ?,
+            score = score + ?, updated_at = ?
+        where product_id = ?
+        """;
+    private static final String INSERT_STATS = """
+        insert into product_stats (product_id, view_count, wish_count, order_count, score, updated_at)
+        values (?, ?, ?, ?, ?, ?)
+        """;
+
+    // one entry per product ever counted; entries are drained but never removed, so no increment can be lost
+    private final Map<Long, Counts> counts = new ConcurrentHashMap<>();
+    private final ProductStatsRepository statsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AutocompleteService autocompleteService;
+    private final PopularityProperties properties;
+
+    public PopularityTracker(
+        ProductStatsRepository statsRepository,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        AutocompleteService autocompleteService,
+        PopularityProperties properties
+    ) {
+        this.statsRepository = statsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.autocompleteService = autocompleteService;
+        this.properties = properties;
+    }
+
+    public void recordView(Long productId) {
+        counts(productId).views.increment();
+    }
+
+    public void recordWish(Long productId) {
+        counts(productId).wishes.increment();
+    }
+
+    public void recordOrder(Long productId) {
+        counts(productId).orders.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${product.popularity.flush-interval:PT10S}")
+    public synchronized void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        counts.forEach((productId, productCounts) -> {
+            Delta delta = productCounts.drain(productId);
+            if (!delta.isEmpty()) {
+                deltas.add(delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        int flushed = 0;
+        for (int from = 0; from < deltas.size(); from += properties.flushBatchSize()) {
+            List<Delta> chunk = deltas.subList(from, Math.min(from + properties.flushBatchSize(), deltas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(chunk));
+                flushed += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("Popularity flush failed for {} products; retrying on the next flush", chunk.size(), e);
+                chunk.forEach(delta -> counts(delta.productId()).restore(delta));
+                continue;
+            }
+            try {
+                statsRepository.findScores(chunk.stream().map(Delta::productId).toList())
+                    .forEach(score -> autocompleteService.updateProductWeight(score.productId(), score.score()));
+            } catch (DataAccessException e) {
+                log.warn("Failed to refresh autocomplete weights after a popularity flush", e);
+            }
+        }
+        log.debug("Popularity flush wrote {} of {} products", flushed, deltas.size());
+    }
+
+    private void write(List<Delta> chunk) {
+        Set<Long> existing = new HashSet<>(statsRepository.findExistingProductIds(chunk.stream().map(Delta::productId).toList()));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (Delta delta : chunk) {
+            long score = delta.views() * properties.viewWeight()
+                + delta.wishes() * properties.wishWeight()
+                + delta.orders() * properties.orderWeight();
+            if (existing.contains(delta.productId())) {
+                updates.add(new Object[]{delta.views(), delta.wishes(), delta.orders(), score, now, delta.productId()});
+            } else {
+                inserts.add(new Object[]{delta.productId(), delta.views(), delta.wishes(), delta.orders(), score, now});
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STATS, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_STATS, inserts);
+        }
+    }
+
+    private Counts counts(Long productId) {
+        return counts.computeIfAbsent(productId, id -> new Counts());
+    }
+
+    private record Delta(Long productId, long views, long wishes, long orders) {
+        boolean isEmpty() {
+            return views == 0 && wishes == 0 && orders == 0;
+        }
+    }
+
+    private static final class Counts {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder wishes = new LongAdder();
+        private final LongAdder orders = new LongAdder();
+
+        // sumThenReset is not atomic across cells, but an increment it misses stays in the adder for the next drain
+        Delta drain(Long productId) {
+            return new Delta(productId, views.sumThenReset(), wishes.sumThenReset(), orders.sumThenReset());
+        }
+
+        void restore(Delta delta) {
+            views.add(delta.views());
+            wishes.add(delta.wishes());
+            orders.add(delta.orders());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package gift.popularity;
+
+public record ProductScore(Long productId, long score) {
+}
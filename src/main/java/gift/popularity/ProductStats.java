@@ -0,0 +1,70 @@
+package gift.popularity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/*
+ * Cumulative popularity counters per product, written only by PopularityTracker's flush.
+ * score is the weighted sum of the counters at the weights in effect when each delta was flushed.
+ * There is no foreign key to product, so deleting a product never waits on its stats row.
+ */
+@Entity
+@Table(
+    name = "product_stats",
+    indexes = {
+        @Index(name = "idx_product_stats_score", columnList = "score"),
+        @Index(name = "idx_product_stats_updated_at", columnList = "updated_at")
+    }
+)
+public class ProductStats {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long wishCount;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long score;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ProductStats() {
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public long getWishCount() {
+        return wishCount;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
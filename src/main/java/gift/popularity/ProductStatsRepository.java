@@ -0,0 +1,25 @@
+package gift.popularity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductStatsRepository extends JpaRepository<ProductStats, Long> {
+    @Query("select s.productId from ProductStats s where s.productId in :productIds")
+    List<Long> findExistingProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("select new gift.popularity.ProductScore(s.productId, s.score) from ProductStats s where s.productId in :productIds")
+    List<ProductScore> findScores(@Param("productIds") Collection<Long> productIds);
+
+    @Query("select new gift.popularity.ProductScore(s.productId, s.score) from ProductStats s where s.score > 0")
+    List<ProductScore> findAllScores();
+
+    // validator for popularity-sorted listings; changes whenever any instance flushes
+    @Query("select max(s.updatedAt) from ProductStats s")
+    Optional<LocalDateTime> findLastUpdatedAt();
+}
@@ -0,0 +1,28 @@
+package gift.popularity;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// served from memory only; an unknown or quiet category simply has no trending products
+@RestController
+@RequestMapping("/api/categories/{categoryId}/trending")
+public class TrendingController {
+    private final TrendingTracker trendingTracker;
+
+    public TrendingController(TrendingTracker trendingTracker) {
+        this.trendingTracker = trendingTracker;
+    }
+
+    @GetMapping
+    public ResponseEntity<TrendingResponse> trending(
+        @PathVariable Long categoryId,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(new TrendingResponse(
+            categoryId, trendingTracker.windowMinutes(), trendingTracker.trending(categoryId, size)));
+    }
+}
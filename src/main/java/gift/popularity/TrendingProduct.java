@@ -0,0 +1,4 @@
+package gift.popularity;
+
+public record TrendingProduct(Long productId, String name, long count) {
+}
@@ -0,0 +1,19 @@
+package gift.popularity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product.trending")
+public record TrendingProperties(
+    @DefaultValue("60") int buckets,
+    @DefaultValue("1m") Duration bucketDuration,
+    @DefaultValue("20") int topN
+) {
+    public TrendingProperties {
+        if (buckets <= 0 || topN <= 0 || bucketDuration.toMillis() <= 0) {
+            throw new IllegalArgumentException("product.trending buckets, bucket-duration and top-n must be positive.");
+        }
+    }
+}
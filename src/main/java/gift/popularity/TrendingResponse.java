@@ -0,0 +1,6 @@
+package gift.popularity;
+
+import java.util.List;
+
+public record TrendingResponse(Long categoryId, long windowMinutes, List<TrendingProduct> products) {
+}
@@ -0,0 +1,47 @@
+package gift.popularity;
+
+import gift.common.InvalidRequestException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * "Trending in a category right now": order and wish events over the last product.trending.buckets buckets
+ * of product.trending.bucket-duration each (60 x 1 minute by default), kept per category in memory.
+ * Reads never touch the database; product names are the ones seen with the latest event.
+ * The window starts empty on every restart and is local to this instance.
+ */
+@Component
+public class TrendingTracker {
+    private final Map<Long, TrendingWindow> windows = new ConcurrentHashMap<>();
+    private final TrendingProperties properties;
+    private final long bucketMillis;
+
+    public TrendingTracker(TrendingProperties properties) {
+        this.properties = properties;
+        this.bucketMillis = properties.bucketDuration().toMillis();
+    }
+
+    public void record(Long categoryId, Long productId, String productName) {
+        windows.computeIfAbsent(categoryId, id -> new TrendingWindow(properties.buckets(), properties.topN()))
+            .record(currentBucket(), productId, productName, 1);
+    }
+
+    public List<TrendingProduct> trending(Long categoryId, int size) {
+        if (size <= 0) {
+            throw new InvalidRequestException("size must be positive.");
+        }
+        TrendingWindow window = windows.get(categoryId);
+        return window == null ? List.of() : window.top(currentBucket(), Math.min(size, properties.topN()));
+    }
+
+    public long windowMinutes() {
+        return properties.bucketDuration().multipliedBy(properties.buckets()).toMinutes();
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+}
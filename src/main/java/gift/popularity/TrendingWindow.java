@@ -0,0 +1,127 @@
+package gift.popularity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/*
+ * Sliding event counts for one category: a ring of buckets, each a sparse productId -> count map, plus running
+ * totals over the whole window and the current top N kept sorted by count desc, then product id.
+ * A record only ever raises one total, so the top list is patched in place; a full recount runs only when
+ * a bucket with events expires. Every change republishes an immutable snapshot that reads return without
+ * locking as long as the clock is still in the same bucket.
+ */
+final class TrendingWindow {
+    private final int topN;
+    private final List<Map<Long, Long>> buckets;
+    private final Map<Long, Long> totals = new HashMap<>();
+    private final Map<Long, String> names = new HashMap<>();
+    private final List<TrendingProduct> top = new ArrayList<>();
+    private long currentBucket = Long.MIN_VALUE;
+
+    private volatile Snapshot snapshot = new Snapshot(Long.MIN_VALUE, List.of());
+
+    private record Snapshot(long bucket, List<TrendingProduct> products) {
+    }
+
+    TrendingWindow(int bucketCount, int topN) {
+        this.topN = topN;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    synchronized void record(long bucket, Long productId, String name, long amount) {
+        advance(bucket);
+        buckets.get(slot(currentBucket)).merge(productId, amount, Long::sum);
+        long total = totals.merge(productId, amount, Long::sum);
+        names.put(productId, name);
+        raise(new TrendingProduct(productId, name, total));
+        publish();
+    }
+
+    List<TrendingProduct> top(long bucket, int limit) {
+        Snapshot current = snapshot;
+        if (current.bucket() < bucket) {
+            synchronized (this) {
+                advance(bucket);
+                publish();
+                current = snapshot;
+            }
+        }
+        List<TrendingProduct> products = current.products();
+        return products.size() <= limit ? products : products.subList(0, limit);
+    }
+
+    // expires every bucket the clock has moved past; a clock that steps back keeps writing into the current bucket
+    private void advance(long bucket) {
+        if (bucket <= currentBucket) {
+            return;
+        }
+        boolean expired = false;
+        long first = currentBucket == Long.MIN_VALUE ? bucket : Math.max(currentBucket + 1, bucket - buckets.size() + 1);
+        for (long reused = first; reused <= bucket; reused++) {
+            Map<Long, Long> counts = buckets.get(slot(reused));
+            if (counts.isEmpty()) {
+                continue;
+            }
+            counts.forEach((productId, count) -> {
+                if (totals.merge(productId, -count, Long::sum) <= 0) {
+                    totals.remove(productId);
+                    names.remove(productId);
+                }
+            });
+            counts.clear();
+            expired = true;
+        }
+        currentBucket = bucket;
+        if (expired) {
+            recount();
+        }
+    }
+
+    private void raise(TrendingProduct product) {
+        top.removeIf(entry -> entry.productId().equals(product.productId()));
+        int position = 0;
+        while (position < top.size() && ranksBefore(top.get(position), product)) {
+            position++;
+        }
+        if (position < topN) {
+            top.add(position, product);
+            if (top.size() > topN) {
+                top.remove(top.size() - 1);
+            }
+        }
+    }
+
+    private void recount() {
+        // min-heap of the best topN seen so far: the root is the weakest entry and is evicted first
+        PriorityQueue<TrendingProduct> best = new PriorityQueue<>(topN + 1,
+            (a, b) -> ranksBefore(a, b) ? 1 : ranksBefore(b, a) ? -1 : 0);
+        totals.forEach((productId, total) -> {
+            best.add(new TrendingProduct(productId, names.get(productId), total));
+            if (best.size() > topN) {
+                best.poll();
+            }
+        });
+        top.clear();
+        while (!best.isEmpty()) {
+            top.add(0, best.poll());
+        }
+    }
+
+    private void publish() {
+        snapshot = new Snapshot(currentBucket, List.copyOf(top));
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.size());
+    }
+
+    private static boolean ranksBefore(TrendingProduct a, TrendingProduct b) {
+        return a.count() > b.count() || (a.count() == b.count() && a.productId() < b.productId());
+    }
+}
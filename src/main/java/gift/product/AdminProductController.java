@@ -1,14 +1,19 @@
 package gift.product;
 
 import gift.category.CategoryService;
+import gift.common.DomainException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Controller
@@ -16,10 +21,16 @@ import java.util.List;
 public class AdminProductController {
     private final ProductService productService;
     private final CategoryService categoryService;
+    private final ProductImportService productImportService;
 
-    public AdminProductController(ProductService productService, CategoryService categoryService) {
+    public AdminProductController(
+        ProductService productService,
+        CategoryService categoryService,
+        ProductImportService productImportService
+    ) {
         this.productService = productService;
         this.categoryService = categoryService;
+        this.productImportService = productImportService;
     }
 
     @GetMapping
@@ -44,7 +55,7 @@ public class AdminProductController {
     ) {
         try {
             productService.create(name, price, imageUrl, categoryId);
-        } catch (IllegalArgumentException e) {
+        } catch (DomainException e) {
             populateNewForm(model, List.of(e.getMessage()), name, price, imageUrl, categoryId);
             return "product/new";
         }
@@ -53,7 +64,7 @@ public class AdminProductController {
 
     @GetMapping("/{id}/edit")
     public String editForm(@PathVariable Long id, Model model) {
-        model.addAttribute("product", productService.findById(id));
+        model.addAttribute("product", productService.loadById(id));
         model.addAttribute("categories", categoryService.findAll());
         return "product/edit";
     }
@@ -69,14 +80,33 @@ public class AdminProductController {
     ) {
         try {
             productService.update(id, name, price, imageUrl, categoryId);
-        } catch (IllegalArgumentException e) {
-            Product product = productService.findById(id);
+        } catch (DomainException e) {
+            Product product = productService.loadById(id);
             populateEditForm(model, product, List.of(e.getMessage()), name, price, imageUrl, categoryId);
             return "product/edit";
         }
         return "redirect:/admin/products";
     }
 
+    @GetMapping("/cache-stats")
+    @ResponseBody
+    public ProductCacheStats cacheStats() {
+        return productService.cacheStats();
+    }
+
+    /*
+     * Streams the raw request body, e.g.
+     * curl --data-binary @products.csv -H 'Content-Type: text/csv' /admin/products/import
+     */
+    @PostMapping("/import")
+    @ResponseBody
+    public ProductImportReport importProducts(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) {
+        return productImportService.importProducts(body, ProductImportFormat.fromContentType(contentType));
+    }
+
     @PostMapping("/{id}/delete")
     public String delete(@PathVariable Long id) {
         productService.delete(id);
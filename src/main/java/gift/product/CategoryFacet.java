@@ -0,0 +1,8 @@
+package gift.product;
+
+public record CategoryFacet(
+    Long categoryId,
+    String categoryName,
+    long count
+) {
+}
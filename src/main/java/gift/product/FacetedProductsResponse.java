@@ -0,0 +1,20 @@
+package gift.product;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+
+import java.util.List;
+
+public record FacetedProductsResponse(
+    List<ProductResponse> content,
+    PagedModel.PageMetadata page,
+    ProductFacets facets
+) {
+    public static FacetedProductsResponse of(Page<ProductResponse> page, ProductFacets facets) {
+        return new FacetedProductsResponse(
+            page.getContent(),
+            new PagedModel.PageMetadata(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages()),
+            facets
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package gift.product;
+
+import java.util.List;
+
+/*
+ * Product counts per fixed price bucket, read in one pass with sum(case ...) aggregates.
+ * The bucket bounds here and in ProductRepository.findPriceHistogram must stay in sync.
+ */
+public record PriceHistogram(
+    Long under10000,
+    Long from10000To30000,
+    Long from30000To50000,
+    Long from50000To100000,
+    Long from100000
+) {
+    public List<PriceBucket> buckets() {
+        return List.of(
+            new PriceBucket(0, 9_999, count(under10000)),
+            new PriceBucket(10_000, 29_999, count(from10000To30000)),
+            new PriceBucket(30_000, 49_999, count(from30000To50000)),
+            new PriceBucket(50_000, 99_999, count(from50000To100000)),
+            new PriceBucket(100_000, null, count(from100000))
+        );
+    }
+
+    // sum() over no rows is null
+    private static long count(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    public record PriceBucket(Integer minPrice, Integer maxPrice, long count) {
+    }
+}
@@ -1,21 +1,32 @@
 package gift.product;
 
 import gift.category.Category;
+import gift.common.CollectionVersionListener;
+import gift.common.VersionedCollectionMember;
 import gift.option.Option;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-public class Product {
+@Table(indexes = @Index(name = "idx_product_category_price_id", columnList = "category_id, price, id"))
+@EntityListeners(CollectionVersionListener.class)
+public class Product implements VersionedCollectionMember {
+    static final String COLLECTION_KEY = "products";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -23,13 +34,16 @@ public class Product {
     private int price;
     private String imageUrl;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Option> options = new ArrayList<>();
 
+    @Version
+    private long version;
+
     protected Product() {
     }
 
@@ -70,4 +84,13 @@ public class Product {
     public List<Option> getOptions() {
         return options;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String collectionKey() {
+        return COLLECTION_KEY;
+    }
 }
@@ -0,0 +1,15 @@
+package gift.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product.cache")
+public record ProductCacheProperties(
+    @DefaultValue("10000") int maxSize,
+    @DefaultValue("5m") Duration ttl,
+    @DefaultValue("3") int cachedPages,
+    @DefaultValue("100") int maxPageEntries
+) {
+}
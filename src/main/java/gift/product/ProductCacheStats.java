@@ -0,0 +1,9 @@
+package gift.product;
+
+import gift.common.CacheStats;
+
+public record ProductCacheStats(
+    CacheStats products,
+    CacheStats pages
+) {
+}
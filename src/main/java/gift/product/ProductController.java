@@ -1,8 +1,14 @@
 package gift.product;
 
+import gift.category.CategoryService;
+import gift.common.InvalidRequestException;
+import gift.common.JsonResponseCache;
+import gift.popularity.PopularityTracker;
+import gift.popularity.ProductStatsRepository;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,29 +16,85 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 
+/*
+ * GET responses carry a strong ETag computed from the product's version column or, for lists, from the
+ * collection's catalog_version counter. A matching If-None-Match is answered with 304 without loading products.
+ */
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
     private final ProductService productService;
+    private final CategoryService categoryService;
+    private final JsonResponseCache responseCache;
+    private final PopularityTracker popularityTracker;
+    private final ProductStatsRepository productStatsRepository;
 
-    public ProductController(ProductService productService) {
+    public ProductController(
+        ProductService productService,
+        CategoryService categoryService,
+        JsonResponseCache responseCache,
+        PopularityTracker popularityTracker,
+        ProductStatsRepository productStatsRepository
+    ) {
         this.productService = productService;
+        this.categoryService = categoryService;
+        this.responseCache = responseCache;
+        this.popularityTracker = popularityTracker;
+        this.productStatsRepository = productStatsRepository;
     }
 
+    /*
+     * Optional categoryId/minPrice/maxPrice filters run in the database.
+     * With facets=true the page is returned together with per-category and per-price-bucket counts.
+     * sortBy=popularity orders by the flushed popularity score instead of the sort parameter.
+     */
     @GetMapping
-    public ResponseEntity<Page<ProductResponse>> getProducts(Pageable pageable) {
-        Page<ProductResponse> products = productService.findAll(pageable).map(ProductResponse::from);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<byte[]> getProducts(
+        @RequestParam(required = false) Long categoryId,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(defaultValue = "false") boolean facets,
+        @RequestParam(required = false) String sortBy,
+        Pageable pageable,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        ProductFilter filter = new ProductFilter(categoryId, minPrice, maxPrice);
+        boolean popular = isPopularitySort(sortBy);
+        // category facets carry category names, so renames must change the tag as well
+        String etag = JsonResponseCache.etag("products", pageable, filter, productService.collectionVersion(),
+            facets ? categoryService.collectionVersion() : "no-facets",
+            popular ? productStatsRepository.findLastUpdatedAt().orElse(null) : "default-sort");
+        return responseCache.respond(etag, ifNoneMatch, () -> {
+            Page<ProductSnapshot> products = popular
+                ? productService.findPopular(filter, pageable)
+                : productService.findAll(filter, pageable);
+            Page<ProductResponse> page = products.map(ProductResponse::from);
+            return facets ? FacetedProductsResponse.of(page, productService.facets(filter)) : page;
+        });
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductResponse>> searchProducts(@RequestParam String q, Pageable pageable) {
+        return ResponseEntity.ok(productService.search(q, pageable).map(ProductResponse::from));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long id) {
-        return ResponseEntity.ok(ProductResponse.from(productService.findById(id)));
+    public ResponseEntity<byte[]> getProduct(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        long version = productService.findVersionById(id);
+        popularityTracker.recordView(id);
+        String etag = JsonResponseCache.etag("product", id, version);
+        return responseCache.respond(etag, ifNoneMatch,
+            () -> ProductResponse.from(productService.findById(id, version)));
     }
 
     @PostMapping
@@ -58,4 +120,14 @@ public class ProductController {
         productService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean isPopularitySort(String sortBy) {
+        if (sortBy == null) {
+            return false;
+        }
+        if (!sortBy.equals("popularity")) {
+            throw new InvalidRequestException("sortBy must be popularity.");
+        }
+        return true;
+    }
 }
@@ -0,0 +1,13 @@
+package gift.product;
+
+import java.util.List;
+
+/*
+ * Each facet ignores its own filter so that clients can show the alternatives:
+ * category counts apply only the price filter and price buckets apply only the category filter.
+ */
+public record ProductFacets(
+    List<CategoryFacet> categories,
+    List<PriceHistogram.PriceBucket> priceBuckets
+) {
+}
@@ -0,0 +1,22 @@
+package gift.product;
+
+import gift.common.InvalidRequestException;
+
+public record ProductFilter(
+    Long categoryId,
+    Integer minPrice,
+    Integer maxPrice
+) {
+    public ProductFilter {
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)) {
+            throw new InvalidRequestException("Price filters must not be negative.");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new InvalidRequestException("minPrice must not be greater than maxPrice.");
+        }
+    }
+
+    public boolean isEmpty() {
+        return categoryId == null && minPrice == null && maxPrice == null;
+    }
+}
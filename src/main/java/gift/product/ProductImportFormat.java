@@ -0,0 +1,19 @@
+package gift.product;
+
+import gift.common.InvalidRequestException;
+
+public enum ProductImportFormat {
+    CSV,
+    JSONL;
+
+    public static ProductImportFormat fromContentType(String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase();
+        if (type.contains("csv")) {
+            return CSV;
+        }
+        if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json")) {
+            return JSONL;
+        }
+        throw new InvalidRequestException("Unsupported import content type. Use text/csv or application/x-ndjson.");
+    }
+}
@@ -0,0 +1,11 @@
+package gift.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product.import")
+public record ProductImportProperties(
+    @DefaultValue("1000") int batchSize,
+    @DefaultValue("1000") int maxReportedErrors
+) {
+}
@@ -0,0 +1,16 @@
+package gift.product;
+
+import java.util.List;
+
+public record ProductImportReport(
+    long totalRows,
+    long importedProducts,
+    long importedOptions,
+    long failedRows,
+    List<RowError> errors,
+    boolean errorsTruncated,
+    long elapsedMillis
+) {
+    public record RowError(long line, String message) {
+    }
+}
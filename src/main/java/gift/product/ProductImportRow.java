@@ -0,0 +1,19 @@
+package gift.product;
+
+import java.util.List;
+
+/*
+ * One product line of an import file.
+ * CSV columns: name,price,imageUrl,categoryId,options where options is "name:quantity|name:quantity".
+ * JSONL lines use the same field names with options as [{"name": ..., "quantity": ...}].
+ */
+public record ProductImportRow(
+    String name,
+    Integer price,
+    String imageUrl,
+    Long categoryId,
+    List<Option> options
+) {
+    public record Option(String name, Integer quantity) {
+    }
+}
@@ -0,0 +1,358 @@
+package gift.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.autocomplete.AutocompleteService;
+import gift.category.CategoryRepository;
+import gift.common.CollectionVersions;
+import gift.common.InvalidRequestException;
+import gift.common.NameValidator;
+import gift.common.RestrictedTermDictionary;
+import gift.common.Snowflake;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Streams a CSV or JSONL upload line by line. Only the current batch is held in memory.
+ * Valid rows are written with plain JDBC batches: one batch of product inserts, whose generated keys feed
+ * one batch of option inserts, in a transaction per batch. Invalid rows are reported with their line numbers
+ * and skipped. Category existence is looked up once per distinct id for the whole import.
+ * Caches and in-memory indexes are refreshed once at the end instead of per row.
+ */
+@Service
+public class ProductImportService {
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+
+    private static final String INSERT_PRODUCT =
+        "insert into product (name, price, image_url, category_id, version) values (?, ?, ?, ?, 0)";
+    private static final String INSERT_OPTION =
+        "insert into options (id, product_id, name, quantity, version) values (?, ?, ?, ?, 0)";
+    private static final List<String> CSV_COLUMNS = List.of("name", "price", "imageUrl", "categoryId", "options");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final ProductService productService;
+    private final AutocompleteService autocompleteService;
+    private final CollectionVersions collectionVersions;
+    private final RestrictedTermDictionary restrictedTermDictionary;
+    private final ProductImportProperties properties;
+
+    public ProductImportService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        CategoryRepository categoryRepository,
+        ObjectMapper objectMapper,
+        ProductService productService,
+        AutocompleteService autocompleteService,
+        CollectionVersions collectionVersions,
+        RestrictedTermDictionary restrictedTermDictionary,
+        ProductImportProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+        this.productService = productService;
+        this.autocompleteService = autocompleteService;
+        this.collectionVersions = collectionVersions;
+        this.restrictedTermDictionary = restrictedTermDictionary;
+        this.properties = properties;
+    }
+
+    public ProductImportReport importProducts(InputStream input, ProductImportFormat format) {
+        long startedAt = System.nanoTime();
+        Run run = new Run();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (format == ProductImportFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readJsonLines(reader, run);
+            }
+            run.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the import file.", e);
+        } finally {
+            if (run.importedProducts > 0) {
+                productService.evictAll();
+                productService.rebuildSearchIndex();
+                autocompleteService.rebuild();
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Product import finished: {} rows, {} products, {} options, {} failed in {} ms",
+            run.totalRows, run.importedProducts, run.importedOptions, run.failedRows, elapsedMillis);
+        return new ProductImportReport(
+            run.totalRows, run.importedProducts, run.importedOptions, run.failedRows,
+            run.errors, run.errorsTruncated, elapsedMillis);
+    }
+
+    private void readCsv(BufferedReader reader, Run run) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> columns = CsvLine.split(header);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            positions.put(columns.get(i).trim(), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!positions.containsKey(column)) {
+                throw new InvalidRequestException("CSV header must contain the columns " + String.join(",", CSV_COLUMNS));
+            }
+        }
+
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.totalRows++;
+            try {
+                List<String> fields = CsvLine.split(line);
+                run.accept(lineNumber, new ProductImportRow(
+                    field(fields, positions, "name"),
+                    parseInteger(field(fields, positions, "price"), "price"),
+                    field(fields, positions, "imageUrl"),
+                    parseLong(field(fields, positions, "categoryId"), "categoryId"),
+                    parseCsvOptions(field(fields, positions, "options"))
+                ));
+            } catch (IllegalArgumentException e) {
+                run.reject(lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    private void readJsonLines(BufferedReader reader, Run run) throws IOException {
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.totalRows++;
+            try {
+                run.accept(lineNumber, objectMapper.readValue(line, ProductImportRow.class));
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private List<String> validate(ProductImportRow row, Map<Long, Boolean> categories) {
+        List<String> errors = new ArrayList<>(NameValidator.validate(row.name(), "Product name", 15, restrictedTermDictionary.matcher()));
+        if (row.price() == null || row.price() <= 0) {
+            errors.add("Price must be greater than zero.");
+        }
+        if (row.imageUrl() == null || row.imageUrl().isBlank()) {
+            errors.add("Image URL is required.");
+        }
+        if (row.categoryId() == null) {
+            errors.add("Category id is required.");
+        } else if (!categories.computeIfAbsent(row.categoryId(), categoryRepository::existsById)) {
+            errors.add("Category not found. id=" + row.categoryId());
+        }
+        if (row.options() == null || row.options().isEmpty()) {
+            errors.add("A product needs at least one option.");
+            return errors;
+        }
+        Set<String> optionNames = new HashSet<>();
+        for (ProductImportRow.Option option : row.options()) {
+            if (option == null) {
+                errors.add("Option must not be null.");
+                continue;
+            }
+            errors.addAll(NameValidator.validate(option.name(), "Option name", 50));
+            if (option.name() != null && !optionNames.add(option.name())) {
+                errors.add("Option name already exists. name=" + option.name());
+            }
+            if (option.quantity() == null || option.quantity() < 1 || option.quantity() > 99_999_999) {
+                errors.add("Option quantity must be between 1 and 99999999.");
+            }
+        }
+        return errors;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> positions, String column) {
+        int position = positions.get(column);
+        return position < fields.size() ? fields.get(position).trim() : "";
+    }
+
+    private static Integer parseInteger(String value, String column) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number.");
+        }
+    }
+
+    private static Long parseLong(String value, String column) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number.");
+        }
+    }
+
+    private static List<ProductImportRow.Option> parseCsvOptions(String value) {
+        List<ProductImportRow.Option> options = new ArrayList<>();
+        if (value.isEmpty()) {
+            return options;
+        }
+        for (String option : value.split("\\|")) {
+            int separator = option.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Options must be written as name:quantity separated by |.");
+            }
+            options.add(new ProductImportRow.Option(
+                option.substring(0, separator).trim(),
+                parseInteger(option.substring(separator + 1).trim(), "Option quantity")
+            ));
+        }
+        return options;
+    }
+
+    private record PendingRow(long lineNumber, ProductImportRow row) {
+    }
+
+    // state of one import call; never shared between threads
+    private final class Run {
+        private final Map<Long, Boolean> categories = new HashMap<>();
+        private final List<PendingRow> batch = new ArrayList<>(properties.batchSize());
+        private final List<ProductImportReport.RowError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+        private long totalRows;
+        private long importedProducts;
+        private long importedOptions;
+        private long failedRows;
+
+        // earlier batches are already committed, so a row that cannot be validated is reported, never thrown
+        void accept(long lineNumber, ProductImportRow row) {
+            if (row == null) {
+                reject(lineNumber, "Row must be a JSON object.");
+                return;
+            }
+            List<String> rowErrors;
+            try {
+                rowErrors = validate(row, categories);
+            } catch (RuntimeException e) {
+                log.warn("Product import row {} could not be validated", lineNumber, e);
+                reject(lineNumber, "Row could not be validated: " + e.getMessage());
+                return;
+            }
+            if (!rowErrors.isEmpty()) {
+                reject(lineNumber, String.join(", ", rowErrors));
+                return;
+            }
+            batch.add(new PendingRow(lineNumber, row));
+            if (batch.size() >= properties.batchSize()) {
+                flush();
+            }
+        }
+
+        void reject(long lineNumber, String message) {
+            failedRows++;
+            if (errors.size() < properties.maxReportedErrors()) {
+                errors.add(new ProductImportReport.RowError(lineNumber, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                int options = transactionTemplate.execute(status -> {
+                    int inserted = insert(batch);
+                    // JDBC inserts skip the entity listeners; options of new products form lists nobody has cached yet
+                    collectionVersions.bump(Product.COLLECTION_KEY);
+                    return inserted;
+                });
+                importedProducts += batch.size();
+                importedOptions += options;
+            } catch (DataAccessException e) {
+                log.warn("Product import batch failed", e);
+                for (PendingRow pending : batch) {
+                    reject(pending.lineNumber(), "Batch insert failed: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private int insert(List<PendingRow> rows) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_PRODUCT, new String[]{"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    ProductImportRow row = rows.get(i).row();
+                    statement.setString(1, row.name());
+                    statement.setInt(2, row.price());
+                    statement.setString(3, row.imageUrl());
+                    statement.setLong(4, row.categoryId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            },
+            keys
+        );
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        if (generated.size() != rows.size()) {
+            throw new IllegalStateException("Expected " + rows.size() + " generated keys but got " + generated.size());
+        }
+        List<Object[]> options = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            long productId = ((Number) generated.get(i).values().iterator().next()).longValue();
+            for (ProductImportRow.Option option : rows.get(i).row().options()) {
+                options.add(new Object[]{Snowflake.instance().nextId(), productId, option.name(), option.quantity()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_OPTION, options);
+        return options.size();
+    }
+}
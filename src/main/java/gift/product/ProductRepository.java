@@ -1,6 +1,96 @@
 package gift.product;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/*
+ * ProductResponse only needs the category id, which the lazy proxy already holds.
+ * The unpaged list backs the admin page, which renders category names.
+ */
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    @Override
+    @EntityGraph(attributePaths = "category")
+    List<Product> findAll();
+
+    // validator for conditional GETs; touches only the version column and primary key
+    @Query("select p.version from Product p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /*
+     * Absent filters are passed as null and fold away, so every combination is served by one statement.
+     * idx_product_category_price_id covers category plus price range filters and their count query.
+     */
+    @Query("""
+        select p from Product p
+        where (:categoryId is null or p.category.id = :categoryId)
+          and (:minPrice is null or p.price >= :minPrice)
+          and (:maxPrice is null or p.price <= :maxPrice)
+        """)
+    Page<Product> findFiltered(
+        @Param("categoryId") Long categoryId,
+        @Param("minPrice") Integer minPrice,
+        @Param("maxPrice") Integer maxPrice,
+        Pageable pageable
+    );
+
+    // products never counted sort as zero; ties fall back to id so pages stay stable between flushes
+    @Query(value = """
+        select p from Product p left join ProductStats s on s.productId = p.id
+        where (:categoryId is null or p.category.id = :categoryId)
+          and (:minPrice is null or p.price >= :minPrice)
+          and (:maxPrice is null or p.price <= :maxPrice)
+        order by coalesce(s.score, 0) desc, p.id asc
+        """, countQuery = """
+        select count(p) from Product p
+        where (:categoryId is null or p.category.id = :categoryId)
+          and (:minPrice is null or p.price >= :minPrice)
+          and (:maxPrice is null or p.price <= :maxPrice)
+        """)
+    Page<Product> findPopular(
+        @Param("categoryId") Long categoryId,
+        @Param("minPrice") Integer minPrice,
+        @Param("maxPrice") Integer maxPrice,
+        Pageable pageable
+    );
+
+    @Query("""
+        select new gift.product.CategoryFacet(c.id, c.name, count(p))
+        from Product p join p.category c
+        where (:minPrice is null or p.price >= :minPrice)
+          and (:maxPrice is null or p.price <= :maxPrice)
+        group by c.id, c.name
+        order by count(p) desc, c.id
+        """)
+    List<CategoryFacet> countByCategory(@Param("minPrice") Integer minPrice, @Param("maxPrice") Integer maxPrice);
+
+    @Query("""
+        select new gift.product.PriceHistogram(
+            sum(case when p.price < 10000 then 1L else 0L end),
+            sum(case when p.price >= 10000 and p.price < 30000 then 1L else 0L end),
+            sum(case when p.price >= 30000 and p.price < 50000 then 1L else 0L end),
+            sum(case when p.price >= 50000 and p.price < 100000 then 1L else 0L end),
+            sum(case when p.price >= 100000 then 1L else 0L end))
+        from Product p
+        where (:categoryId is null or p.category.id = :categoryId)
+        """)
+    PriceHistogram findPriceHistogram(@Param("categoryId") Long categoryId);
+
+    @Query("select new gift.product.ProductSearchDocument(p.id, p.name) from Product p order by p.id")
+    List<ProductSearchDocument> findAllSearchDocuments();
+
+    // forward-only cursor for exports; on MySQL the hint needs useCursorFetch=true to avoid buffering the result
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p from Product p order by p.id")
+    Stream<Product> streamAll();
 }
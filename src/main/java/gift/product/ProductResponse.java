@@ -16,4 +16,14 @@ public record ProductResponse(
             product.getCategory().getId()
         );
     }
+
+    public static ProductResponse from(ProductSnapshot product) {
+        return new ProductResponse(
+            product.id(),
+            product.name(),
+            product.price(),
+            product.imageUrl(),
+            product.categoryId()
+        );
+    }
 }
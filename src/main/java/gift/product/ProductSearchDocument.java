@@ -0,0 +1,4 @@
+package gift.product;
+
+public record ProductSearchDocument(Long id, String name) {
+}
@@ -0,0 +1,349 @@
+package gift.product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/*
+ * In-process inverted index over product names.
+ * Names are lower-cased and stripped of separators, then indexed by every character and every adjacent
+ * pair of characters, which covers Hangul syllables and Latin words alike without a morphological analyzer.
+ * Documents get dense ordinals in insertion order, so every posting list is an ascending int array and
+ * queries intersect them by merging. An update tombstones the old ordinal and appends a new one; the index
+ * compacts itself once tombstones make up a quarter of all ordinals.
+ */
+public class ProductSearchIndex {
+    private static final int CHUNK_SIZE = 50_000;
+    private static final int MIN_COMPACTION_SIZE = 1_024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment(16);
+    private List<Change> changesDuringRebuild;
+
+    public record Hits(int total, List<Long> productIds) {
+        static final Hits EMPTY = new Hits(0, List.of());
+    }
+
+    private record Change(long productId, String name) {
+    }
+
+    public void put(long productId, String name) {
+        lock.writeLock().lock();
+        try {
+            segment.put(productId, name);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(productId, name));
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(productId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(productId, null));
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Builds a fresh segment from the loader's documents in parallel while searches keep using the old one.
+     * Writes that arrive after recording starts are replayed onto the new segment before it is swapped in,
+     * so the loader may read a snapshot that is older than the latest writes.
+     */
+    public void rebuild(Supplier<List<ProductSearchDocument>> loader) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment built = null;
+        try {
+            built = Segment.build(loader.get());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built != null) {
+                    for (Change change : changesDuringRebuild) {
+                        if (change.name() == null) {
+                            built.remove(change.productId());
+                        } else {
+                            built.put(change.productId(), change.name());
+                        }
+                    }
+                    segment = built;
+                }
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /*
+     * Every n-gram of the query must be present. Matches are ranked by exact name, then prefix,
+     * then contiguous substring, then scattered n-grams; ties go to the shorter name and then to
+     * the earlier indexed product.
+     */
+    public Hits search(String query, int offset, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Hits.EMPTY;
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(normalized, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.size - segment.deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (segment.size >= MIN_COMPACTION_SIZE && segment.deleted * 4 >= segment.size) {
+            segment = segment.compact();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    // single characters map below 0x10000 and pairs at or above it, so both share one int key space
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static int[] documentTerms(String name) {
+        int length = name.length();
+        int[] terms = new int[length == 0 ? 0 : 2 * length - 1];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            terms[count++] = unigram(name.charAt(i));
+            if (i + 1 < length) {
+                terms[count++] = bigram(name.charAt(i), name.charAt(i + 1));
+            }
+        }
+        return terms;
+    }
+
+    private static int[] queryTerms(String query) {
+        if (query.length() == 1) {
+            return new int[]{unigram(query.charAt(0))};
+        }
+        int[] terms = new int[query.length() - 1];
+        for (int i = 0; i + 1 < query.length(); i++) {
+            terms[i] = bigram(query.charAt(i), query.charAt(i + 1));
+        }
+        return Arrays.stream(terms).distinct().toArray();
+    }
+
+    private static final class Segment {
+        private long[] productIds;
+        private String[] names;
+        private int size;
+        private int deleted;
+        private final BitSet tombstones = new BitSet();
+        private final Map<Long, Integer> ordinalsByProductId;
+        private final Map<Integer, Postings> postings = new HashMap<>();
+
+        private Segment(int capacity) {
+            this.productIds = new long[capacity];
+            this.names = new String[capacity];
+            this.ordinalsByProductId = new HashMap<>(capacity * 4 / 3 + 1);
+        }
+
+        static Segment build(List<ProductSearchDocument> documents) {
+            int count = documents.size();
+            Segment segment = new Segment(Math.max(16, count));
+            int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            // each chunk indexes a contiguous ordinal range, so concatenating chunk postings in order keeps them sorted
+            List<Map<Integer, Postings>> partials = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    Map<Integer, Postings> local = new HashMap<>();
+                    int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+                    for (int ordinal = chunk * CHUNK_SIZE; ordinal < end; ordinal++) {
+                        String name = normalize(documents.get(ordinal).name());
+                        segment.names[ordinal] = name;
+                        for (int term : documentTerms(name)) {
+                            local.computeIfAbsent(term, key -> new Postings()).add(ordinal);
+                        }
+                    }
+                    return local;
+                })
+                .toList();
+
+            for (Map<Integer, Postings> partial : partials) {
+                partial.forEach((term, list) -> segment.postings.merge(term, list, Postings::append));
+            }
+            for (int ordinal = 0; ordinal < count; ordinal++) {
+                long productId = documents.get(ordinal).id();
+                segment.productIds[ordinal] = productId;
+                Integer previous = segment.ordinalsByProductId.put(productId, ordinal);
+                if (previous != null) {
+                    segment.tombstone(previous);
+                }
+            }
+            segment.size = count;
+            return segment;
+        }
+
+        void put(long productId, String name) {
+            remove(productId);
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                names = Arrays.copyOf(names, size * 2);
+            }
+            int ordinal = size++;
+            String normalized = normalize(name);
+            productIds[ordinal] = productId;
+            names[ordinal] = normalized;
+            ordinalsByProductId.put(productId, ordinal);
+            for (int term : documentTerms(normalized)) {
+                postings.computeIfAbsent(term, key -> new Postings()).add(ordinal);
+            }
+        }
+
+        void remove(long productId) {
+            Integer ordinal = ordinalsByProductId.remove(productId);
+            if (ordinal != null) {
+                tombstone(ordinal);
+            }
+        }
+
+        Segment compact() {
+            List<ProductSearchDocument> live = new ArrayList<>(size - deleted);
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (!tombstones.get(ordinal)) {
+                    live.add(new ProductSearchDocument(productIds[ordinal], names[ordinal]));
+                }
+            }
+            return build(live);
+        }
+
+        Hits search(String query, int offset, int limit) {
+            int[] terms = queryTerms(query);
+            Postings[] lists = new Postings[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                lists[i] = postings.get(terms[i]);
+                if (lists[i] == null) {
+                    return Hits.EMPTY;
+                }
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            int[] candidates = Arrays.copyOf(lists[0].ordinals, lists[0].size);
+            int candidateCount = candidates.length;
+            for (int i = 1; i < lists.length && candidateCount > 0; i++) {
+                candidateCount = intersect(candidates, candidateCount, lists[i]);
+            }
+
+            // rank (2 bits) | name length (16 bits) | ordinal (32 bits): sorting the packed keys sorts by relevance
+            long[] ranked = new long[candidateCount];
+            int matches = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                int ordinal = candidates[i];
+                if (tombstones.get(ordinal)) {
+                    continue;
+                }
+                String name = names[ordinal];
+                long rank = name.equals(query) ? 0 : name.startsWith(query) ? 1 : name.contains(query) ? 2 : 3;
+                long length = Math.min(name.length(), 0xFFFF);
+                ranked[matches++] = (rank << 48) | (length << 32) | ordinal;
+            }
+            Arrays.sort(ranked, 0, matches);
+
+            int from = Math.min(Math.max(offset, 0), matches);
+            int to = (int) Math.min((long) from + limit, matches);
+            List<Long> page = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                page.add(productIds[(int) ranked[i]]);
+            }
+            return new Hits(matches, page);
+        }
+
+        private void tombstone(int ordinal) {
+            tombstones.set(ordinal);
+            names[ordinal] = "";
+            deleted++;
+        }
+
+        // keeps the candidates present in the list; both are ascending, so each binary search starts where the last ended
+        private static int intersect(int[] candidates, int count, Postings list) {
+            int kept = 0;
+            int position = 0;
+            for (int i = 0; i < count && position < list.size; i++) {
+                int found = Arrays.binarySearch(list.ordinals, position, list.size, candidates[i]);
+                if (found >= 0) {
+                    candidates[kept++] = candidates[i];
+                    position = found + 1;
+                } else {
+                    position = -found - 1;
+                }
+            }
+            return kept;
+        }
+    }
+
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        Postings append(Postings other) {
+            if (size + other.size > ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.ordinals, 0, ordinals, size, other.size);
+            size += other.size;
+            return this;
+        }
+    }
+}
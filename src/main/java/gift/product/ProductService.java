@@ -1,60 +1,240 @@
 package gift.product;
 
+import gift.autocomplete.AutocompleteService;
 import gift.category.Category;
 import gift.category.CategoryService;
+import gift.common.AfterCommit;
+import gift.common.BoundedCache;
+import gift.common.CollectionVersion;
+import gift.common.CollectionVersions;
+import gift.common.ErrorCode;
+import gift.common.InvalidRequestException;
 import gift.common.NameValidator;
+import gift.common.RestrictedTermDictionary;
+import gift.common.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/*
+ * Product lookups and the first few catalog pages are served from bounded in-process caches.
+ * The caches hold immutable ProductSnapshots, never entities, so readers on other threads share nothing mutable.
+ * Every write through this service invalidates the affected product and all cached pages right away and again
+ * after its transaction commits. A load that overlapped an invalidation is not stored, so a reader that saw the
+ * row before the write cannot put a stale copy back for the full TTL. Writes always reload the entity.
+ * The name search index is rebuilt once the application is ready and kept current by the same writes.
+ */
 @Service
 public class ProductService {
+    private static final Logger log = LoggerFactory.getLogger(ProductService.class);
+
     private final ProductRepository productRepository;
     private final CategoryService categoryService;
+    private final ProductCacheProperties cacheProperties;
+    private final AutocompleteService autocompleteService;
+    private final CollectionVersions collectionVersions;
+    private final RestrictedTermDictionary restrictedTermDictionary;
+    private final BoundedCache<Long, ProductSnapshot> products;
+    private final BoundedCache<Pageable, Page<ProductSnapshot>> pages;
+    private final AtomicLong evictions = new AtomicLong();
+    private final ProductSearchIndex searchIndex = new ProductSearchIndex();
 
-    public ProductService(ProductRepository productRepository, CategoryService categoryService) {
+    public ProductService(
+        ProductRepository productRepository,
+        CategoryService categoryService,
+        ProductCacheProperties cacheProperties,
+        AutocompleteService autocompleteService,
+        CollectionVersions collectionVersions,
+        RestrictedTermDictionary restrictedTermDictionary
+    ) {
         this.productRepository = productRepository;
         this.categoryService = categoryService;
+        this.cacheProperties = cacheProperties;
+        this.autocompleteService = autocompleteService;
+        this.collectionVersions = collectionVersions;
+        this.restrictedTermDictionary = restrictedTermDictionary;
+        this.products = new BoundedCache<>(cacheProperties.maxSize(), cacheProperties.ttl());
+        this.pages = new BoundedCache<>(cacheProperties.maxPageEntries(), cacheProperties.ttl());
+    }
+
+    public Page<ProductSnapshot> findAll(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= cacheProperties.cachedPages()) {
+            return productRepository.findAll(pageable).map(ProductSnapshot::from);
+        }
+        var cached = pages.get(pageable);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long seen = evictions.get();
+        Page<ProductSnapshot> page = productRepository.findAll(pageable).map(ProductSnapshot::from);
+        store(pages, pageable, page, seen);
+        return page;
+    }
+
+    // filtered listings bypass the page cache; their combinations are too many to be worth caching
+    public Page<ProductSnapshot> findAll(ProductFilter filter, Pageable pageable) {
+        if (filter.isEmpty()) {
+            return findAll(pageable);
+        }
+        return productRepository.findFiltered(filter.categoryId(), filter.minPrice(), filter.maxPrice(), pageable)
+            .map(ProductSnapshot::from);
+    }
+
+    // ordered by flushed popularity score; the request's own sort is ignored
+    public Page<ProductSnapshot> findPopular(ProductFilter filter, Pageable pageable) {
+        Pageable unsorted = pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+        return productRepository.findPopular(filter.categoryId(), filter.minPrice(), filter.maxPrice(), unsorted)
+            .map(ProductSnapshot::from);
     }
 
-    public Page<Product> findAll(Pageable pageable) {
-        return productRepository.findAll(pageable);
+    public ProductFacets facets(ProductFilter filter) {
+        return new ProductFacets(
+            productRepository.countByCategory(filter.minPrice(), filter.maxPrice()),
+            productRepository.findPriceHistogram(filter.categoryId()).buckets()
+        );
+    }
+
+    public Page<Product> search(String query, Pageable pageable) {
+        if (query == null || ProductSearchIndex.normalize(query).isEmpty()) {
+            throw new InvalidRequestException("Search query must contain at least one letter or digit.");
+        }
+        var hits = searchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+        Map<Long, Product> found = productRepository.findAllById(hits.productIds()).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> content = hits.productIds().stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        long startedAt = System.nanoTime();
+        searchIndex.rebuild(productRepository::findAllSearchDocuments);
+        log.info("Product search index rebuilt: {} products in {} ms",
+            searchIndex.size(), (System.nanoTime() - startedAt) / 1_000_000);
     }
 
     public List<Product> findAll() {
         return productRepository.findAll();
     }
 
-    public Product findById(Long id) {
+    public ProductSnapshot findById(Long id) {
+        return findById(id, 0);
+    }
+
+    // bypasses a cached copy older than minVersion, e.g. one written through another instance
+    public ProductSnapshot findById(Long id, long minVersion) {
+        var cached = products.get(id);
+        if (cached.isPresent() && cached.get().version() >= minVersion) {
+            return cached.get();
+        }
+        long seen = evictions.get();
+        ProductSnapshot product = ProductSnapshot.from(loadById(id));
+        store(products, id, product, seen);
+        return product;
+    }
+
+    // a managed entity, for callers that associate it with new rows or render its category
+    public Product loadById(Long id) {
         return productRepository.findById(id)
-            .orElseThrow(() -> new NoSuchElementException("Product not found. id=" + id));
+            .orElseThrow(() -> new NotFoundException(ErrorCode.PRODUCT_NOT_FOUND, "Product not found. id=" + id));
+    }
+
+    // checks existence through the cache and returns a proxy that can be used as a foreign key without a select
+    public Product getReference(Long id) {
+        findById(id);
+        return productRepository.getReferenceById(id);
+    }
+
+    public long findVersionById(Long id) {
+        return productRepository.findVersionById(id)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.PRODUCT_NOT_FOUND, "Product not found. id=" + id));
+    }
+
+    public CollectionVersion collectionVersion() {
+        return collectionVersions.current(Product.COLLECTION_KEY);
     }
 
     public Product create(String name, int price, String imageUrl, Long categoryId) {
         validateName(name);
         Category category = categoryService.findById(categoryId);
-        return productRepository.save(new Product(name, price, imageUrl, category));
+        Product saved = productRepository.save(new Product(name, price, imageUrl, category));
+        evict(saved.getId());
+        searchIndex.put(saved.getId(), saved.getName());
+        autocompleteService.putProduct(saved.getId(), saved.getName());
+        return saved;
     }
 
     public Product update(Long id, String name, int price, String imageUrl, Long categoryId) {
         validateName(name);
         Category category = categoryService.findById(categoryId);
-        Product product = findById(id);
+        Product product = loadById(id);
         product.update(name, price, imageUrl, category);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        evict(id);
+        searchIndex.put(id, saved.getName());
+        autocompleteService.putProduct(id, saved.getName());
+        return saved;
     }
 
     public void delete(Long id) {
         productRepository.deleteById(id);
+        evict(id);
+        searchIndex.remove(id);
+        autocompleteService.removeProduct(id);
+    }
+
+    public void evictAll() {
+        evictions.incrementAndGet();
+        products.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    public ProductCacheStats cacheStats() {
+        return new ProductCacheStats(products.stats(), pages.stats());
+    }
+
+    private void evict(Long id) {
+        evictNow(id);
+        AfterCommit.run(() -> evictNow(id));
+    }
+
+    private void evictNow(Long id) {
+        evictions.incrementAndGet();
+        products.invalidate(id);
+        pages.invalidateAll();
+    }
+
+    // an eviction that lands between the check and the put is caught by the second check
+    private <K, V> void store(BoundedCache<K, V> cache, K key, V value, long seen) {
+        if (evictions.get() != seen) {
+            return;
+        }
+        cache.put(key, value);
+        if (evictions.get() != seen) {
+            cache.invalidate(key);
+        }
     }
 
     private void validateName(String name) {
-        List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+        List<String> errors = NameValidator.validate(name, "Product name", 15, restrictedTermDictionary.matcher());
         if (!errors.isEmpty()) {
-            throw new IllegalArgumentException(String.join(", ", errors));
+            throw new InvalidRequestException(String.join(", ", errors));
         }
     }
 }
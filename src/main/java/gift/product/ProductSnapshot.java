@@ -0,0 +1,25 @@
+package gift.product;
+
+/*
+ * Immutable copy of a product's columns, safe to hand to any thread from the product cache.
+ * Only the category id is kept, which the lazy category proxy supplies without a select.
+ */
+public record ProductSnapshot(
+    Long id,
+    String name,
+    int price,
+    String imageUrl,
+    Long categoryId,
+    long version
+) {
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(
+            product.getId(),
+            product.getName(),
+            product.getPrice(),
+            product.getImageUrl(),
+            product.getCategory().getId(),
+            product.getVersion()
+        );
+    }
+}
@@ -0,0 +1,164 @@
+package gift.recommendation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongConsumer;
+
+/*
+ * Sparse symmetric product x product matrix: cell (a, b) counts the members who ordered both a and b.
+ * Each member's basket of ordered products is kept as well, so a new order only adds the pairs it creates.
+ * Instances are confined to one thread at a time; CoOccurrenceRecommender provides the locking.
+ */
+final class CoOccurrenceMatrix {
+    private final Map<Long, LongIntHashMap> rows;
+    private final Map<Long, LongIntHashMap> baskets;
+
+    private CoOccurrenceMatrix(Map<Long, LongIntHashMap> rows, Map<Long, LongIntHashMap> baskets) {
+        this.rows = rows;
+        this.baskets = baskets;
+    }
+
+    static CoOccurrenceMatrix empty() {
+        return new CoOccurrenceMatrix(new HashMap<>(), new HashMap<>());
+    }
+
+    /*
+     * Builds the matrix from distinct (member, product) pairs sorted by member id; a duplicate pair would double count.
+     * Rows are split into partitions by product hash and each fork-join leaf fills only its own rows, scanning
+     * every basket but never sharing a map with another leaf, so no merge step or locking is needed.
+     */
+    static CoOccurrenceMatrix build(long[] memberIds, long[] productIds, int size) {
+        int[] basketStarts = basketStarts(memberIds, size);
+        int partitions = ForkJoinPool.getCommonPoolParallelism() * 4;
+        List<Map<Long, LongIntHashMap>> partitionRows = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            partitionRows.add(new HashMap<>());
+        }
+        ForkJoinPool.commonPool().invoke(new BuildTask(productIds, basketStarts, partitionRows, 0, partitions));
+
+        Map<Long, LongIntHashMap> rows = new HashMap<>();
+        partitionRows.forEach(rows::putAll);
+        Map<Long, LongIntHashMap> baskets = new HashMap<>(basketStarts.length * 4 / 3 + 1);
+        for (int basket = 0; basket + 1 < basketStarts.length; basket++) {
+            int from = basketStarts[basket];
+            LongIntHashMap products = new LongIntHashMap(basketStarts[basket + 1] - from);
+            for (int i = from; i < basketStarts[basket + 1]; i++) {
+                products.addTo(productIds[i], 1);
+            }
+            baskets.put(memberIds[from], products);
+        }
+        return new CoOccurrenceMatrix(rows, baskets);
+    }
+
+    // reports every product whose row changed, including productId itself
+    void recordOrder(long memberId, long productId, LongConsumer changedRows) {
+        LongIntHashMap basket = baskets.computeIfAbsent(memberId, id -> new LongIntHashMap());
+        if (basket.addTo(productId, 1) > 1) {
+            // the member already ordered this product, so every pair it takes part in is already counted
+            return;
+        }
+        LongIntHashMap row = row(productId);
+        basket.forEach((other, orders) -> {
+            if (other != productId) {
+                row.addTo(other, 1);
+                row(other).addTo(productId, 1);
+                changedRows.accept(other);
+            }
+        });
+        changedRows.accept(productId);
+    }
+
+    long[][] top(long productId, int k) {
+        LongIntHashMap row = rows.get(productId);
+        return row == null ? new long[][]{new long[0], new long[0]} : row.top(k, productId);
+    }
+
+    int productCount() {
+        return rows.size();
+    }
+
+    long pairCount() {
+        long pairs = 0;
+        for (LongIntHashMap row : rows.values()) {
+            pairs += row.size();
+        }
+        return pairs / 2;
+    }
+
+    private LongIntHashMap row(long productId) {
+        return rows.computeIfAbsent(productId, id -> new LongIntHashMap());
+    }
+
+    // start offset of every member's run, plus size as the final sentinel
+    private static int[] basketStarts(long[] memberIds, int size) {
+        int baskets = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || memberIds[i] != memberIds[i - 1]) {
+                baskets++;
+            }
+        }
+        int[] starts = new int[baskets + 1];
+        int basket = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || memberIds[i] != memberIds[i - 1]) {
+                starts[basket++] = i;
+            }
+        }
+        starts[baskets] = size;
+        return starts;
+    }
+
+    private static int partition(long productId, int partitions) {
+        return (int) Math.floorMod(productId ^ (productId >>> 29), (long) partitions);
+    }
+
+    private static final class BuildTask extends RecursiveAction {
+        private final long[] productIds;
+        private final int[] basketStarts;
+        private final List<Map<Long, LongIntHashMap>> partitionRows;
+        private final int from;
+        private final int to;
+
+        BuildTask(long[] productIds, int[] basketStarts, List<Map<Long, LongIntHashMap>> partitionRows, int from, int to) {
+            this.productIds = productIds;
+            this.basketStarts = basketStarts;
+            this.partitionRows = partitionRows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                    new BuildTask(productIds, basketStarts, partitionRows, from, middle),
+                    new BuildTask(productIds, basketStarts, partitionRows, middle, to)
+                );
+                return;
+            }
+            int partitions = partitionRows.size();
+            Map<Long, LongIntHashMap> rows = partitionRows.get(from);
+            for (int basket = 0; basket + 1 < basketStarts.length; basket++) {
+                int start = basketStarts[basket];
+                int end = basketStarts[basket + 1];
+                for (int i = start; i < end; i++) {
+                    long product = productIds[i];
+                    if (partition(product, partitions) != from) {
+                        continue;
+                    }
+                    LongIntHashMap row = rows.computeIfAbsent(product, id -> new LongIntHashMap());
+                    for (int j = start; j < end; j++) {
+                        if (j != i) {
+                            row.addTo(productIds[j], 1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
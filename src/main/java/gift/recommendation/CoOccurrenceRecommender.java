@@ -0,0 +1,100 @@
+package gift.recommendation;
+
+import gift.common.InvalidRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * "Frequently gifted together": products ordered by the same members, served from memory.
+ * The matrix is rebuilt from orders joined through options when the application is ready and on
+ * recommendation.rebuild-cron. Orders committed in between are applied incrementally. Each product's
+ * top-k is computed on first read and cached until an order touches that product's row.
+ */
+@Service
+public class CoOccurrenceRecommender {
+    private static final Logger log = LoggerFactory.getLogger(CoOccurrenceRecommender.class);
+
+    private static final String SELECT_MEMBER_PRODUCTS = """
+        select distinct o.member_id, op.product_id
+        from orders o join options op on op.id = o.option_id
+        order by o.member_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecommendationProperties properties;
+    private final Map<Long, List<RelatedProduct>> topK = new ConcurrentHashMap<>();
+    private CoOccurrenceMatrix matrix = CoOccurrenceMatrix.empty();
+    // orders recorded while a rebuild is loading, replayed onto the new matrix before it is swapped in
+    private List<long[]> ordersDuringRebuild;
+
+    public CoOccurrenceRecommender(JdbcTemplate jdbcTemplate, RecommendationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    public synchronized void recordOrder(Long memberId, Long productId) {
+        matrix.recordOrder(memberId, productId, topK::remove);
+        if (ordersDuringRebuild != null) {
+            ordersDuringRebuild.add(new long[]{memberId, productId});
+        }
+    }
+
+    public List<RelatedProduct> related(Long productId, int size) {
+        if (size <= 0) {
+            throw new InvalidRequestException("size must be positive.");
+        }
+        List<RelatedProduct> related = topK.get(productId);
+        if (related == null) {
+            synchronized (this) {
+                related = topK.computeIfAbsent(productId, this::computeTop);
+            }
+        }
+        return related.size() <= size ? related : related.subList(0, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${recommendation.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        synchronized (this) {
+            ordersDuringRebuild = new ArrayList<>();
+        }
+        long startedAt = System.nanoTime();
+        CoOccurrenceMatrix built = null;
+        try {
+            MemberProductPairs pairs = MemberProductPairs.load(jdbcTemplate, SELECT_MEMBER_PRODUCTS);
+            built = CoOccurrenceMatrix.build(pairs.memberIds(), pairs.productIds(), pairs.size());
+        } finally {
+            synchronized (this) {
+                if (built != null) {
+                    for (long[] order : ordersDuringRebuild) {
+                        built.recordOrder(order[0], order[1], changed -> { });
+                    }
+                    matrix = built;
+                    topK.clear();
+                }
+                ordersDuringRebuild = null;
+            }
+        }
+        log.info("Co-occurrence matrix rebuilt: {} products, {} pairs in {} ms",
+            built.productCount(), built.pairCount(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private List<RelatedProduct> computeTop(Long productId) {
+        long[][] top = matrix.top(productId, properties.topK());
+        List<RelatedProduct> related = new ArrayList<>(top[0].length);
+        for (int i = 0; i < top[0].length; i++) {
+            related.add(new RelatedProduct(top[0][i], top[1][i]));
+        }
+        return List.copyOf(related);
+    }
+}
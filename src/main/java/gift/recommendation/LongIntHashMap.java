@@ -0,0 +1,165 @@
+package gift.recommendation;
+
+import java.util.Arrays;
+
+/*
+ * Open-addressing long -> int map with linear probing, so co-occurrence rows cost two primitive array slots
+ * per entry instead of a boxed node. Absent keys read as 0. Not thread-safe.
+ * Key 0 marks an empty slot and is stored separately.
+ */
+final class LongIntHashMap {
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    LongIntHashMap() {
+        this(8);
+    }
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+
+    int get(long key) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : 0;
+        }
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            if (keys[slot] == 0) {
+                return 0;
+            }
+        }
+    }
+
+    boolean containsKey(long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            if (keys[slot] == 0) {
+                return false;
+            }
+        }
+    }
+
+    // adds delta to the key's value, inserting it at delta when absent, and returns the new value
+    int addTo(long key, int delta) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > keys.length * LOAD_FACTOR) {
+            grow();
+        }
+        return delta;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(Consumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /*
+     * The k keys with the largest values, largest first and lower key first on ties, skipping one key.
+     * Insertion into a k-slot sorted window keeps this O(size * k) without boxing; k is small.
+     */
+    long[][] top(int k, long excludedKey) {
+        long[] topKeys = new long[k];
+        long[] topValues = new long[k];
+        int[] count = {0};
+        forEach((key, value) -> {
+            if (key == excludedKey || value <= 0) {
+                return;
+            }
+            int position = count[0];
+            while (position > 0 && ranksBefore(key, value, topKeys[position - 1], topValues[position - 1])) {
+                position--;
+            }
+            if (position >= k) {
+                return;
+            }
+            int last = Math.min(count[0], k - 1);
+            System.arraycopy(topKeys, position, topKeys, position + 1, last - position);
+            System.arraycopy(topValues, position, topValues, position + 1, last - position);
+            topKeys[position] = key;
+            topValues[position] = value;
+            count[0] = Math.min(count[0] + 1, k);
+        });
+        return new long[][]{Arrays.copyOf(topKeys, count[0]), Arrays.copyOf(topValues, count[0])};
+    }
+
+    private static boolean ranksBefore(long key, long value, long otherKey, long otherValue) {
+        return value > otherValue || (value == otherValue && key < otherKey);
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // Snowflake and sequential ids share low bits, so mix before masking (Murmur3 finalizer)
+    private static int hash(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    @FunctionalInterface
+    interface Consumer {
+        void accept(long key, int value);
+    }
+}
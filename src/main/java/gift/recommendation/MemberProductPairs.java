@@ -0,0 +1,47 @@
+package gift.recommendation;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.Arrays;
+
+// (member_id, product_id) rows of a query held as growable primitive columns; boxing millions of pairs would dwarf the results
+final class MemberProductPairs {
+    private static final int FETCH_SIZE = 10_000;
+
+    private long[] memberIds = new long[1024];
+    private long[] productIds = new long[1024];
+    private int size;
+
+    static MemberProductPairs load(JdbcTemplate jdbcTemplate, String sql) {
+        MemberProductPairs pairs = new MemberProductPairs();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> pairs.add(resultSet.getLong(1), resultSet.getLong(2)));
+        return pairs;
+    }
+
+    long[] memberIds() {
+        return memberIds;
+    }
+
+    long[] productIds() {
+        return productIds;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void add(long memberId, long productId) {
+        if (size == memberIds.length) {
+            memberIds = Arrays.copyOf(memberIds, size * 2);
+            productIds = Arrays.copyOf(productIds, size * 2);
+        }
+        memberIds[size] = memberId;
+        productIds[size] = productId;
+        size++;
+    }
+}
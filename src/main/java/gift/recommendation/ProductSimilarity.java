@@ -0,0 +1,55 @@
+package gift.recommendation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+
+/*
+ * One precomputed "also wished" neighbour. Rows are replaced wholesale by WishSimilarityService
+ * and only ever read back in bulk, so the entity exists to own the table definition.
+ */
+@Entity
+@Table(name = "product_similarity")
+@IdClass(ProductSimilarity.Key.class)
+public class ProductSimilarity {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "similar_product_id")
+    private Long similarProductId;
+
+    @Column(nullable = false)
+    private double score;
+
+    // 0-based rank among the product's neighbours
+    @Column(nullable = false)
+    private int position;
+
+    protected ProductSimilarity() {
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Long getSimilarProductId() {
+        return similarProductId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public record Key(Long productId, Long similarProductId) implements Serializable {
+    }
+}
@@ -0,0 +1,16 @@
+package gift.recommendation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "recommendation")
+public record RecommendationProperties(
+    @DefaultValue("10") int topK,
+    @DefaultValue("false") boolean similarityJobEnabled
+) {
+    public RecommendationProperties {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("recommendation.top-k must be positive.");
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package gift.recommendation;
+
+// count is the number of members who ordered both products
+public record RelatedProduct(Long productId, long count) {
+}
@@ -0,0 +1,73 @@
+package gift.recommendation;
+
+import gift.common.NotFoundException;
+import gift.product.ProductSnapshot;
+import gift.product.ProductService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * Product-page recommendations. Rankings come from memory; product details come from ProductService's cache,
+ * and products deleted since the rankings were computed are skipped.
+ */
+@RestController
+@RequestMapping("/api/products/{productId}")
+public class RelatedProductController {
+    private final CoOccurrenceRecommender recommender;
+    private final WishSimilarityService wishSimilarityService;
+    private final ProductService productService;
+
+    public RelatedProductController(
+        CoOccurrenceRecommender recommender,
+        WishSimilarityService wishSimilarityService,
+        ProductService productService
+    ) {
+        this.recommender = recommender;
+        this.wishSimilarityService = wishSimilarityService;
+        this.productService = productService;
+    }
+
+    // products most often ordered by members who also ordered this one
+    @GetMapping("/related")
+    public ResponseEntity<List<RelatedProductResponse>> related(
+        @PathVariable Long productId,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        List<RelatedProductResponse> responses = new ArrayList<>();
+        for (RelatedProduct related : recommender.related(productId, size)) {
+            findProduct(related.productId())
+                .ifPresent(product -> responses.add(RelatedProductResponse.from(product, related.count())));
+        }
+        return ResponseEntity.ok(responses);
+    }
+
+    // products whose wish lists overlap most with this one's
+    @GetMapping("/also-wished")
+    public ResponseEntity<List<SimilarProductResponse>> alsoWished(
+        @PathVariable Long productId,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        List<SimilarProductResponse> responses = new ArrayList<>();
+        for (SimilarProduct similar : wishSimilarityService.alsoWished(productId, size)) {
+            findProduct(similar.productId())
+                .ifPresent(product -> responses.add(SimilarProductResponse.from(product, similar.score())));
+        }
+        return ResponseEntity.ok(responses);
+    }
+
+    private Optional<ProductSnapshot> findProduct(Long productId) {
+        try {
+            return Optional.of(productService.findById(productId));
+        } catch (NotFoundException e) {
+            return Optional.empty();
+        }
+    }
+}
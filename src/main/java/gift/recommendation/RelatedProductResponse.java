@@ -0,0 +1,15 @@
+package gift.recommendation;
+
+import gift.product.ProductSnapshot;
+
+public record RelatedProductResponse(
+    Long id,
+    String name,
+    int price,
+    String imageUrl,
+    long count
+) {
+    public static RelatedProductResponse from(ProductSnapshot product, long count) {
+        return new RelatedProductResponse(product.id(), product.name(), product.price(), product.imageUrl(), count);
+    }
+}
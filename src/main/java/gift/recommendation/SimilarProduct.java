@@ -0,0 +1,5 @@
+package gift.recommendation;
+
+// score is the cosine similarity of the two products' wish vectors, in (0, 1]
+public record SimilarProduct(Long productId, double score) {
+}
@@ -0,0 +1,15 @@
+package gift.recommendation;
+
+import gift.product.ProductSnapshot;
+
+public record SimilarProductResponse(
+    Long id,
+    String name,
+    int price,
+    String imageUrl,
+    double score
+) {
+    public static SimilarProductResponse from(ProductSnapshot product, double score) {
+        return new SimilarProductResponse(product.id(), product.name(), product.price(), product.imageUrl(), score);
+    }
+}
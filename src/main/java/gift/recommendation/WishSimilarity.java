@@ -0,0 +1,178 @@
+package gift.recommendation;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * Item-item cosine similarity over binary member -> product wish vectors:
+ * sim(a, b) = members who wished both / sqrt(members who wished a * members who wished b).
+ * Products are renumbered densely and both directions are held as CSR arrays (offsets + int columns),
+ * so the whole computation runs on primitive arrays. Fork-join leaves each own a contiguous range of
+ * products and one dense co-count accumulator, and write their top-k straight into shared result arrays
+ * at disjoint offsets.
+ */
+final class WishSimilarity {
+    private final long[] productIds;
+    private final int k;
+    private final int[] neighbourCounts;
+    private final int[] neighbours;
+    private final float[] scores;
+
+    private WishSimilarity(long[] productIds, int k, int[] neighbourCounts, int[] neighbours, float[] scores) {
+        this.productIds = productIds;
+        this.k = k;
+        this.neighbourCounts = neighbourCounts;
+        this.neighbours = neighbours;
+        this.scores = scores;
+    }
+
+    // distinct (member, product) pairs sorted by member id
+    static WishSimilarity compute(long[] memberIds, long[] wishedProductIds, int size, int k) {
+        long[] productIds = Arrays.stream(wishedProductIds, 0, size).sorted().distinct().toArray();
+        int productCount = productIds.length;
+
+        // member -> products: the input order already groups pairs by member
+        int[] memberProducts = new int[size];
+        int memberCount = 0;
+        int[] memberStarts = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || memberIds[i] != memberIds[i - 1]) {
+                memberStarts[memberCount++] = i;
+            }
+            memberProducts[i] = Arrays.binarySearch(productIds, wishedProductIds[i]);
+        }
+        memberStarts[memberCount] = size;
+
+        // product -> members by counting sort over the same pairs
+        int[] productStarts = new int[productCount + 1];
+        for (int i = 0; i < size; i++) {
+            productStarts[memberProducts[i] + 1]++;
+        }
+        for (int p = 0; p < productCount; p++) {
+            productStarts[p + 1] += productStarts[p];
+        }
+        int[] productMembers = new int[size];
+        int[] fill = Arrays.copyOf(productStarts, productCount);
+        for (int member = 0; member < memberCount; member++) {
+            for (int i = memberStarts[member]; i < memberStarts[member + 1]; i++) {
+                productMembers[fill[memberProducts[i]]++] = member;
+            }
+        }
+
+        int[] neighbourCounts = new int[productCount];
+        int[] neighbours = new int[productCount * k];
+        float[] scores = new float[productCount * k];
+        int leaves = Math.max(1, Math.min(productCount, ForkJoinPool.getCommonPoolParallelism() * 4));
+        ForkJoinPool.commonPool().invoke(new Task(
+            new Csr(memberStarts, memberProducts, productStarts, productMembers),
+            k, neighbourCounts, neighbours, scores, 0, productCount, Math.max(1, productCount / leaves)));
+        return new WishSimilarity(productIds, k, neighbourCounts, neighbours, scores);
+    }
+
+    int productCount() {
+        return productIds.length;
+    }
+
+    long productId(int product) {
+        return productIds[product];
+    }
+
+    int neighbourCount(int product) {
+        return neighbourCounts[product];
+    }
+
+    long neighbourId(int product, int position) {
+        return productIds[neighbours[product * k + position]];
+    }
+
+    float score(int product, int position) {
+        return scores[product * k + position];
+    }
+
+    private record Csr(int[] memberStarts, int[] memberProducts, int[] productStarts, int[] productMembers) {
+        int degree(int product) {
+            return productStarts[product + 1] - productStarts[product];
+        }
+    }
+
+    private static final class Task extends RecursiveAction {
+        private final Csr csr;
+        private final int k;
+        private final int[] neighbourCounts;
+        private final int[] neighbours;
+        private final float[] scores;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        Task(Csr csr, int k, int[] neighbourCounts, int[] neighbours, float[] scores, int from, int to, int leafSize) {
+            this.csr = csr;
+            this.k = k;
+            this.neighbourCounts = neighbourCounts;
+            this.neighbours = neighbours;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                    new Task(csr, k, neighbourCounts, neighbours, scores, from, middle, leafSize),
+                    new Task(csr, k, neighbourCounts, neighbours, scores, middle, to, leafSize)
+                );
+                return;
+            }
+            int productCount = neighbourCounts.length;
+            int[] coCounts = new int[productCount];
+            int[] touched = new int[productCount];
+            for (int product = from; product < to; product++) {
+                int touchedCount = 0;
+                for (int i = csr.productStarts()[product]; i < csr.productStarts()[product + 1]; i++) {
+                    int member = csr.productMembers()[i];
+                    for (int j = csr.memberStarts()[member]; j < csr.memberStarts()[member + 1]; j++) {
+                        int other = csr.memberProducts()[j];
+                        if (other != product && coCounts[other]++ == 0) {
+                            touched[touchedCount++] = other;
+                        }
+                    }
+                }
+                double degree = csr.degree(product);
+                int base = product * k;
+                int count = 0;
+                for (int t = 0; t < touchedCount; t++) {
+                    int other = touched[t];
+                    float score = (float) (coCounts[other] / Math.sqrt(degree * csr.degree(other)));
+                    coCounts[other] = 0;
+                    count = insert(base, count, other, score);
+                }
+                neighbourCounts[product] = count;
+            }
+        }
+
+        // keeps this product's slice sorted by score desc, then dense index (product id order) asc
+        private int insert(int base, int count, int other, float score) {
+            int position = count;
+            while (position > 0 && ranksBefore(other, score, neighbours[base + position - 1], scores[base + position - 1])) {
+                position--;
+            }
+            if (position >= k) {
+                return count;
+            }
+            int last = Math.min(count, k - 1);
+            System.arraycopy(neighbours, base + position, neighbours, base + position + 1, last - position);
+            System.arraycopy(scores, base + position, scores, base + position + 1, last - position);
+            neighbours[base + position] = other;
+            scores[base + position] = score;
+            return Math.min(count + 1, k);
+        }
+
+        private static boolean ranksBefore(int product, float score, int otherProduct, float otherScore) {
+            return score > otherScore || (score == otherScore && product < otherProduct);
+        }
+    }
+}
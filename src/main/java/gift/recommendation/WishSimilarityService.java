@@ -0,0 +1,141 @@
+package gift.recommendation;
+
+import gift.common.InvalidRequestException;
+import gift.common.JobLocks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * "People who wished this also wished": a batch job computes wish-based cosine similarity for every product
+ * on recommendation.similarity-cron and replaces product_similarity with the top-k neighbours per product.
+ * Requests are answered from an in-memory copy of that table, loaded at startup and swapped after each run.
+ * Only an instance with recommendation.similarity-job-enabled runs the job, and none does unless one is enabled
+ * explicitly; the others reload the table on recommendation.similarity-reload-interval, so every instance serves the
+ * same neighbours without computing them. The table is rewritten under a job lock, so two runs never interleave.
+ */
+@Service
+public class WishSimilarityService {
+    private static final Logger log = LoggerFactory.getLogger(WishSimilarityService.class);
+
+    private static final String SELECT_WISHES = "select distinct member_id, product_id from wish order by member_id";
+    private static final String SELECT_SIMILARITIES =
+        "select product_id, similar_product_id, score from product_similarity order by product_id, position";
+    private static final String INSERT_SIMILARITY =
+        "insert into product_similarity (product_id, similar_product_id, score, position) values (?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final String JOB_NAME = "wish-similarity";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLocks jobLocks;
+    private final RecommendationProperties properties;
+    private volatile Map<Long, List<SimilarProduct>> neighbours = Map.of();
+
+    public WishSimilarityService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        JobLocks jobLocks,
+        RecommendationProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobLocks = jobLocks;
+        this.properties = properties;
+    }
+
+    public List<SimilarProduct> alsoWished(Long productId, int size) {
+        if (size <= 0) {
+            throw new InvalidRequestException("size must be positive.");
+        }
+        List<SimilarProduct> similar = neighbours.getOrDefault(productId, List.of());
+        return similar.size() <= size ? similar : similar.subList(0, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, List<SimilarProduct>> loaded = new HashMap<>();
+        jdbcTemplate.query(SELECT_SIMILARITIES, (RowCallbackHandler) resultSet -> loaded
+            .computeIfAbsent(resultSet.getLong(1), id -> new ArrayList<>())
+            .add(new SimilarProduct(resultSet.getLong(2), resultSet.getDouble(3))));
+        neighbours = freeze(loaded);
+        log.info("Loaded wish similarities for {} products", loaded.size());
+    }
+
+    // the job instance swaps in its own result after each run and has nothing to reload
+    @Scheduled(fixedDelayString = "${recommendation.similarity-reload-interval:PT10M}",
+        initialDelayString = "${recommendation.similarity-reload-interval:PT10M}")
+    public void reload() {
+        if (properties.similarityJobEnabled()) {
+            return;
+        }
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload wish similarities; keeping the previous neighbours", e);
+        }
+    }
+
+    @Scheduled(cron = "${recommendation.similarity-cron:0 30 4 * * *}")
+    public void recomputeIfEnabled() {
+        if (properties.similarityJobEnabled()) {
+            recompute();
+        }
+    }
+
+    public synchronized void recompute() {
+        long startedAt = System.nanoTime();
+        MemberProductPairs wishes = MemberProductPairs.load(jdbcTemplate, SELECT_WISHES);
+        WishSimilarity similarity = WishSimilarity.compute(wishes.memberIds(), wishes.productIds(), wishes.size(), properties.topK());
+        long computedAt = System.nanoTime();
+
+        Map<Long, List<SimilarProduct>> computed = new HashMap<>(similarity.productCount() * 4 / 3 + 1);
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+        transactionTemplate.executeWithoutResult(status -> {
+            jobLocks.lock(JOB_NAME);
+            jdbcTemplate.update("delete from product_similarity");
+            for (int product = 0; product < similarity.productCount(); product++) {
+                int count = similarity.neighbourCount(product);
+                if (count == 0) {
+                    continue;
+                }
+                List<SimilarProduct> similar = new ArrayList<>(count);
+                for (int position = 0; position < count; position++) {
+                    long neighbourId = similarity.neighbourId(product, position);
+                    double score = similarity.score(product, position);
+                    similar.add(new SimilarProduct(neighbourId, score));
+                    rows.add(new Object[]{similarity.productId(product), neighbourId, score, position});
+                    if (rows.size() == INSERT_BATCH_SIZE) {
+                        jdbcTemplate.batchUpdate(INSERT_SIMILARITY, rows);
+                        rows.clear();
+                    }
+                }
+                computed.put(similarity.productId(product), similar);
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SIMILARITY, rows);
+            }
+        });
+        neighbours = freeze(computed);
+        log.info("Wish similarity recomputed for {} products: compute {} ms, persist {} ms",
+            similarity.productCount(), (computedAt - startedAt) / 1_000_000, (System.nanoTime() - computedAt) / 1_000_000);
+    }
+
+    private static Map<Long, List<SimilarProduct>> freeze(Map<Long, List<SimilarProduct>> similarities) {
+        Map<Long, List<SimilarProduct>> frozen = new HashMap<>(similarities.size() * 4 / 3 + 1);
+        similarities.forEach((productId, similar) -> frozen.put(productId, List.copyOf(similar)));
+        return frozen;
+    }
+}
@@ -1,7 +1,7 @@
 package gift.wish;
 
+import gift.auth.AuthMember;
 import gift.auth.LoginMember;
-import gift.member.Member;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,34 +27,34 @@ public class WishController {
 
     @GetMapping
     public ResponseEntity<Page<WishResponse>> getWishes(
-        @LoginMember Member member,
+        @LoginMember AuthMember member,
         Pageable pageable
     ) {
-        var wishes = wishService.findByMemberId(member.getId(), pageable).map(WishResponse::from);
+        var wishes = wishService.findByMemberId(member.id(), pageable).map(WishResponse::from);
         return ResponseEntity.ok(wishes);
     }
 
     @PostMapping
     public ResponseEntity<WishResponse> addWish(
-        @LoginMember Member member,
+        @LoginMember AuthMember member,
         @Valid @RequestBody WishRequest request
     ) {
-        var existing = wishService.findByMemberIdAndProductId(member.getId(), request.productId());
+        var existing = wishService.findByMemberIdAndProductId(member.id(), request.productId());
         if (existing.isPresent()) {
             return ResponseEntity.ok(WishResponse.from(existing.get()));
         }
 
-        Wish wish = wishService.addWish(member.getId(), request.productId());
+        Wish wish = wishService.addWish(member.id(), request.productId());
         return ResponseEntity.created(URI.create("/api/wishes/" + wish.getId()))
             .body(WishResponse.from(wish));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> removeWish(
-        @LoginMember Member member,
+        @LoginMember AuthMember member,
         @PathVariable Long id
     ) {
-        wishService.removeWish(member.getId(), id);
+        wishService.removeWish(member.id(), id);
         return ResponseEntity.noContent().build();
     }
 }
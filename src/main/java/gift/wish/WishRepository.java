@@ -2,12 +2,16 @@ package gift.wish;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
 public interface WishRepository extends JpaRepository<Wish, Long> {
+    // WishResponse renders product fields, so each page fetches its products in the same select
+    @EntityGraph(attributePaths = "product")
     Page<Wish> findByMemberId(Long memberId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "product")
     Optional<Wish> findByMemberIdAndProductId(Long memberId, Long productId);
 }
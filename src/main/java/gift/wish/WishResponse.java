@@ -1,7 +1,11 @@
 package gift.wish;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+// the Snowflake id exceeds 2^53, so it is written as a string that JavaScript clients can hold without rounding
 public record WishResponse(
-    Long id,
+    @JsonSerialize(using = ToStringSerializer.class) Long id,
     Long productId,
     String name,
     int price,
@@ -1,23 +1,36 @@
 package gift.wish;
 
 import gift.auth.ForbiddenException;
+import gift.common.AfterCommit;
+import gift.common.ErrorCode;
+import gift.common.NotFoundException;
+import gift.popularity.PopularityTracker;
+import gift.popularity.TrendingTracker;
 import gift.product.Product;
 import gift.product.ProductService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.NoSuchElementException;
 import java.util.Optional;
 
 @Service
 public class WishService {
     private final WishRepository wishRepository;
     private final ProductService productService;
+    private final PopularityTracker popularityTracker;
+    private final TrendingTracker trendingTracker;
 
-    public WishService(WishRepository wishRepository, ProductService productService) {
+    public WishService(
+        WishRepository wishRepository,
+        ProductService productService,
+        PopularityTracker popularityTracker,
+        TrendingTracker trendingTracker
+    ) {
         this.wishRepository = wishRepository;
         this.productService = productService;
+        this.popularityTracker = popularityTracker;
+        this.trendingTracker = trendingTracker;
     }
 
     public Page<Wish> findByMemberId(Long memberId, Pageable pageable) {
@@ -29,13 +42,20 @@ public class WishService {
     }
 
     public Wish addWish(Long memberId, Long productId) {
-        Product product = productService.findById(productId);
-        return wishRepository.save(new Wish(memberId, product));
+        Product product = productService.loadById(productId);
+        Wish saved = wishRepository.save(new Wish(memberId, product));
+        Long categoryId = product.getCategory().getId();
+        String productName = product.getName();
+        AfterCommit.run(() -> {
+            popularityTracker.recordWish(productId);
+            trendingTracker.record(categoryId, productId, productName);
+        });
+        return saved;
     }
 
     public void removeWish(Long memberId, Long wishId) {
         Wish wish = wishRepository.findById(wishId)
-            .orElseThrow(() -> new NoSuchElementException("Wish not found. id=" + wishId));
+            .orElseThrow(() -> new NotFoundException(ErrorCode.WISH_NOT_FOUND, "Wish not found. id=" + wishId));
 
         if (!wish.getMemberId().equals(memberId)) {
             throw new ForbiddenException("Cannot delete another member's wish.");
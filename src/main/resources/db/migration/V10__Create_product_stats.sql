@@ -0,0 +1,12 @@
+create table product_stats
+(
+    product_id  bigint    not null primary key,
+    view_count  bigint    not null default 0,
+    wish_count  bigint    not null default 0,
+    order_count bigint    not null default 0,
+    score       bigint    not null default 0,
+    updated_at  timestamp not null
+);
+
+create index idx_product_stats_score on product_stats (score);
+create index idx_product_stats_updated_at on product_stats (updated_at);
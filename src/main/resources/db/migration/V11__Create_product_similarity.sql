@@ -0,0 +1,8 @@
+create table product_similarity
+(
+    product_id         bigint not null,
+    similar_product_id bigint not null,
+    score              double not null,
+    position           int    not null,
+    primary key (product_id, similar_product_id)
+);
@@ -0,0 +1 @@
+alter table member add column token_version int not null default 0;
@@ -0,0 +1,6 @@
+create table catalog_version
+(
+    collection_key varchar(100) not null,
+    version        bigint       not null,
+    primary key (collection_key)
+);
@@ -0,0 +1 @@
+alter table order_notification_outbox add column claim_token varchar(36);
@@ -0,0 +1,6 @@
+create table job_lock
+(
+    name      varchar(100) not null,
+    locked_at timestamp    not null,
+    primary key (name)
+);
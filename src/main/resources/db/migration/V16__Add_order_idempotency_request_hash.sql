@@ -0,0 +1 @@
+alter table order_idempotency_key add column request_hash varchar(64);
@@ -0,0 +1,15 @@
+create table order_notification_outbox
+(
+    id              bigint auto_increment primary key,
+    order_id        bigint        not null,
+    member_id       bigint        not null,
+    payload         varchar(2000) not null,
+    status          varchar(20)   not null,
+    attempts        int           not null default 0,
+    next_attempt_at timestamp     not null,
+    created_at      timestamp     not null,
+    sent_at         timestamp,
+    last_error      varchar(500)
+);
+
+create index idx_outbox_status_next_attempt on order_notification_outbox (status, next_attempt_at);
@@ -0,0 +1,16 @@
+create table point_transaction
+(
+    id         bigint auto_increment primary key,
+    member_id  bigint      not null,
+    amount     int         not null,
+    type       varchar(20) not null,
+    created_at timestamp   not null
+);
+
+create index idx_point_transaction_member on point_transaction (member_id);
+
+-- opening entries so that existing balances reconcile against the ledger
+insert into point_transaction (member_id, amount, type, created_at)
+select id, point, 'OPENING', current_timestamp
+from member
+where point <> 0;
@@ -0,0 +1,12 @@
+create table order_idempotency_key
+(
+    id              bigint auto_increment primary key,
+    member_id       bigint        not null,
+    idempotency_key varchar(100)  not null,
+    response_body   varchar(2000),
+    created_at      timestamp     not null,
+    expires_at      timestamp     not null,
+    constraint uk_order_idempotency_member_key unique (member_id, idempotency_key)
+);
+
+create index idx_order_idempotency_expires_at on order_idempotency_key (expires_at);
@@ -0,0 +1 @@
+create index idx_orders_member_date_id on orders (member_id, order_date_time, id);
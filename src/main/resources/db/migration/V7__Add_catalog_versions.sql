@@ -0,0 +1,3 @@
+alter table category add column version bigint not null default 0;
+alter table product add column version bigint not null default 0;
+alter table options add column version bigint not null default 0;
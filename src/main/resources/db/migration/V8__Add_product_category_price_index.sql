@@ -0,0 +1 @@
+create index idx_product_category_price_id on product (category_id, price, id);
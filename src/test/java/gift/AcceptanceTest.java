@@ -1,7 +1,9 @@
 package gift;
 
+import gift.product.ProductService;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.jdbc.Sql;
@@ -18,8 +20,14 @@ public abstract class AcceptanceTest {
     @LocalServerPort
     protected int port;
 
+    @Autowired
+    private ProductService productService;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
+        // cleanup.sql restarts ids and versions behind the caches' back
+        productService.evictAll();
+        productService.rebuildSearchIndex();
     }
 }
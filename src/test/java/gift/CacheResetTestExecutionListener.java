@@ -0,0 +1,23 @@
+package gift;
+
+import gift.common.JsonResponseCache;
+import gift.member.MemberCache;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/*
+ * Rolled-back test transactions and @Sql cleanup scripts change rows behind the in-process caches' backs:
+ * members reappear with stale state, and rolled-back catalog_version bumps hand out tags whose bodies are
+ * still cached. Every test method in a Spring context therefore starts with empty member and response caches.
+ * Registered for all tests through META-INF/spring.factories.
+ */
+public class CacheResetTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        ApplicationContext context = testContext.getApplicationContext();
+        context.getBeanProvider(MemberCache.class).ifAvailable(MemberCache::evictAll);
+        context.getBeanProvider(JsonResponseCache.class).ifAvailable(JsonResponseCache::invalidateAll);
+    }
+}
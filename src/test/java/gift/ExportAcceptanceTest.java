@@ -0,0 +1,82 @@
+package gift;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+
+class ExportAcceptanceTest extends AcceptanceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(scripts = {"/sql/category-data.sql", "/sql/product-data.sql"}, executionPhase = BEFORE_TEST_METHOD)
+    void 상품을_CSV로_내보내면_헤더와_행이_스트리밍된다() {
+        String body = given()
+        .when()
+                .get("/admin/export/products")
+        .then()
+                .statusCode(200)
+                .contentType(startsWith("text/csv"))
+                .header("Content-Disposition", containsString("products.csv"))
+                .extract().asString();
+
+        assertThat(body.split("\r\n")).containsExactly(
+            "id,name,price,imageUrl,categoryId",
+            "1,아메리카노,4500,https://example.com/img.jpg,1"
+        );
+    }
+
+    @Test
+    @Sql(scripts = "/sql/member-data.sql", executionPhase = BEFORE_TEST_METHOD)
+    void 회원을_JSONL로_내보내면_비밀번호는_포함되지_않는다() {
+        String body = given()
+                .queryParam("format", "jsonl")
+        .when()
+                .get("/admin/export/members")
+        .then()
+                .statusCode(200)
+                .contentType(startsWith("application/x-ndjson"))
+                .extract().asString();
+
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body).contains("\"email\":\"sender@test.com\"").doesNotContain("password");
+    }
+
+    @Test
+    @Sql(scripts = "/sql/category-data.sql", executionPhase = BEFORE_TEST_METHOD)
+    void 영속성_컨텍스트를_비우는_간격보다_많은_행도_끝까지_내보낸다() {
+        jdbcTemplate.update("""
+            insert into product (id, name, price, image_url, category_id, version)
+            select x, concat('상품', x), 1000, 'https://example.com/img.jpg', 1, 0 from system_range(1, 2500)
+            """);
+
+        String body = given()
+        .when()
+                .get("/admin/export/products")
+        .then()
+                .statusCode(200)
+                .extract().asString();
+
+        String[] lines = body.split("\r\n");
+        assertThat(lines).hasSize(2501);
+        assertThat(lines[2500]).startsWith("2500,상품2500,");
+    }
+
+    @Test
+    void 지원하지_않는_형식이면_실패한다() {
+        given()
+                .queryParam("format", "xlsx")
+        .when()
+                .get("/admin/export/orders")
+        .then()
+                .statusCode(400);
+    }
+}
@@ -12,7 +12,7 @@ import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TE
 class GiftAcceptanceTest extends AcceptanceTest {
 
     // SQL 스크립트에 정의된 테스트 픽스처
-    private static final String SENDER_EMAIL = "sender@test.com";
+    private static final long SENDER_ID = 1L;
     private static final long TALL_OPTION_ID = 1L;
     private static final int INITIAL_STOCK = 10;
     private static final long NON_EXISTENT_OPTION_ID = 999L;
@@ -21,7 +21,7 @@ class GiftAcceptanceTest extends AcceptanceTest {
     private JwtProvider jwtProvider;
 
     private String senderToken() {
-        return jwtProvider.createToken(SENDER_EMAIL);
+        return jwtProvider.createToken(SENDER_ID, 0);
     }
 
     @Test
@@ -0,0 +1,172 @@
+package gift;
+
+import gift.auth.JwtProvider;
+import gift.category.Category;
+import gift.category.CategoryRepository;
+import gift.member.Member;
+import gift.member.MemberCache;
+import gift.member.MemberRepository;
+import gift.option.Option;
+import gift.option.OptionRepository;
+import gift.order.Order;
+import gift.order.OrderRepository;
+import gift.product.Product;
+import gift.product.ProductRepository;
+import gift.product.ProductService;
+import gift.wish.Wish;
+import gift.wish.WishRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * Verifies that read endpoints issue a fixed number of SQL statements regardless of page size.
+ * Not transactional on purpose: each request must load through its own persistence context,
+ * otherwise entities cached by the test would hide N+1 selects.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = AFTER_TEST_METHOD)
+class StatementCountTest {
+    private static final int ROWS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberCache memberCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private WishRepository wishRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    private Member member;
+    private String token;
+    private Product firstProduct;
+
+    @BeforeEach
+    void setUp() {
+        // measure database statements, not cache hits
+        productService.evictAll();
+        member = memberRepository.save(new Member("statements@example.com", "password"));
+        token = jwtProvider.createToken(member.getId(), member.getTokenVersion());
+        // authentication then hits the member cache for both page sizes alike
+        memberCache.findById(member.getId());
+        memberCache.findTokenVersion(member.getId());
+
+        List<Option> options = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            // one category per product so that a lazy category load would show up as N+1
+            var category = categoryRepository.save(new Category("카테고리" + i, "#000000", "https://example.com/c.jpg", null));
+            var product = productRepository.save(new Product("상품" + i, 1000 + i, "https://example.com/p.jpg", category));
+            options.add(optionRepository.save(new Option(product, "옵션" + i, 100)));
+            wishRepository.save(new Wish(member.getId(), product));
+            if (firstProduct == null) {
+                firstProduct = product;
+            }
+        }
+        for (Option option : options) {
+            orderRepository.save(new Order(option, member.getId(), 1, null));
+        }
+        for (int i = 1; i < ROWS; i++) {
+            optionRepository.save(new Option(firstProduct, "추가옵션" + i, 100));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/orders - 페이지 크기와 무관하게 SQL 수가 일정하다")
+    void orders() throws Exception {
+        assertConstantStatements(size -> get("/api/orders").header("Authorization", "Bearer " + token)
+            .param("size", String.valueOf(size)));
+    }
+
+    @Test
+    @DisplayName("GET /api/orders?after= - 커서 조회도 페이지 크기와 무관하게 SQL 수가 일정하다")
+    void ordersWithCursor() throws Exception {
+        assertConstantStatements(size -> get("/api/orders").header("Authorization", "Bearer " + token)
+            .param("after", "").param("size", String.valueOf(size)));
+    }
+
+    @Test
+    @DisplayName("GET /api/wishes - 페이지 크기와 무관하게 SQL 수가 일정하다")
+    void wishes() throws Exception {
+        assertConstantStatements(size -> get("/api/wishes").header("Authorization", "Bearer " + token)
+            .param("size", String.valueOf(size)));
+    }
+
+    @Test
+    @DisplayName("GET /api/products - 페이지 크기와 무관하게 SQL 수가 일정하다")
+    void products() throws Exception {
+        assertConstantStatements(size -> get("/api/products").param("size", String.valueOf(size)));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id}/options - 옵션 수와 무관하게 SQL 수가 일정하다")
+    void options() throws Exception {
+        long statements = countStatements(get("/api/products/" + firstProduct.getId() + "/options"));
+
+        assertThat(statements).isLessThanOrEqualTo(2);
+    }
+
+    private void assertConstantStatements(PageRequest request) throws Exception {
+        productService.evictAll();
+        long small = countStatements(request.of(2));
+        long large = countStatements(request.of(ROWS));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countStatements(MockHttpServletRequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    private interface PageRequest {
+        MockHttpServletRequestBuilder of(int size);
+    }
+}
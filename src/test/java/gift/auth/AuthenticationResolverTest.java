@@ -0,0 +1,85 @@
+package gift.auth;
+
+import gift.member.Member;
+import gift.member.MemberRepository;
+import gift.member.MemberService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class AuthenticationResolverTest {
+
+    @Autowired
+    private AuthenticationResolver authenticationResolver;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("resolver-test@example.com", "password"));
+    }
+
+    @Test
+    @DisplayName("토큰의 회원 id와 버전으로 인증 주체를 만든다")
+    void authenticatesByMemberId() {
+        String token = jwtProvider.createToken(member.getId(), member.getTokenVersion());
+
+        var authMember = authenticationResolver.authenticate("Bearer " + token);
+
+        assertThat(authMember).isEqualTo(new AuthMember(member.getId(), 0));
+        assertThat(authenticationResolver.extractMember("Bearer " + token).getEmail()).isEqualTo("resolver-test@example.com");
+    }
+
+    @Test
+    @DisplayName("토큰 버전을 올리면 이전에 발급된 토큰은 거부된다")
+    void revokedTokenIsRejected() {
+        String oldToken = jwtProvider.createToken(member.getId(), member.getTokenVersion());
+        assertThat(authenticationResolver.authenticate("Bearer " + oldToken)).isNotNull();
+
+        memberService.revokeTokens(member.getId());
+
+        assertThat(authenticationResolver.authenticate("Bearer " + oldToken)).isNull();
+        String newToken = jwtProvider.createToken(member.getId(), 1);
+        assertThat(authenticationResolver.authenticate("Bearer " + newToken)).isEqualTo(new AuthMember(member.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("이메일만 담긴 이전 형식의 토큰도 버전이 올라가기 전까지는 인증된다")
+    void acceptsLegacyEmailToken() {
+        String legacyToken = Jwts.builder()
+            .subject("resolver-test@example.com")
+            .expiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(secret.getBytes()))
+            .compact();
+
+        assertThat(authenticationResolver.authenticate("Bearer " + legacyToken)).isEqualTo(new AuthMember(member.getId(), 0));
+
+        memberService.revokeTokens(member.getId());
+
+        assertThat(authenticationResolver.authenticate("Bearer " + legacyToken)).isNull();
+    }
+}
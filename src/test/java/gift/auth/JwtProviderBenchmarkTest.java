@@ -0,0 +1,81 @@
+package gift.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javax.crypto.SecretKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Opt-in micro benchmark: ./gradlew test --tests '*JwtProviderBenchmarkTest' -Dbenchmark=true
+ * Compares building a parser per call (the previous behaviour), a shared parser, and the verified-token cache
+ * for a realistic mix where a few hundred active tokens are presented over and over.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtProviderBenchmarkTest {
+    private static final String SECRET = "a-test-secret-key-that-is-at-least-256-bits-long-for-hmac-sha";
+    private static final int TOKENS = 500;
+    private static final int CALLS = 200_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    @DisplayName("요청마다 파서를 만드는 검증, 공유 파서, 검증 캐시의 처리량을 비교한다")
+    void benchmark() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        JwtProvider jwtProvider = new JwtProvider(SECRET, 3_600_000, TOKENS * 2);
+        var sharedParser = Jwts.parser().verifyWith(key).build();
+        String[] tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = jwtProvider.createToken((long) i + 1, 0);
+        }
+
+        long perCallNanos = Long.MAX_VALUE;
+        long sharedNanos = Long.MAX_VALUE;
+        long cachedNanos = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            long perCall = 0;
+            for (int i = 0; i < CALLS; i++) {
+                perCall += Jwts.parser().verifyWith(key).build()
+                    .parseSignedClaims(tokens[i % TOKENS]).getPayload().getSubject().length();
+            }
+            long perCallElapsed = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            long shared = 0;
+            for (int i = 0; i < CALLS; i++) {
+                shared += sharedParser.parseSignedClaims(tokens[i % TOKENS]).getPayload().getSubject().length();
+            }
+            long sharedElapsed = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            long cached = 0;
+            for (int i = 0; i < CALLS; i++) {
+                cached += jwtProvider.verify(tokens[i % TOKENS]).claims().subject().length();
+            }
+            long cachedElapsed = System.nanoTime() - startedAt;
+
+            assertThat(shared).isEqualTo(perCall);
+            assertThat(cached).isEqualTo(perCall);
+            checksum = cached;
+
+            // round 0 is warm-up
+            if (round > 0) {
+                perCallNanos = Math.min(perCallNanos, perCallElapsed);
+                sharedNanos = Math.min(sharedNanos, sharedElapsed);
+                cachedNanos = Math.min(cachedNanos, cachedElapsed);
+            }
+        }
+
+        System.out.printf(
+            "[jwt-benchmark] tokens=%d calls=%d checksum=%d parser-per-call=%.0fns shared-parser=%.0fns cached=%.0fns hit-rate=%.3f%n",
+            TOKENS, CALLS, checksum, (double) perCallNanos / CALLS, (double) sharedNanos / CALLS,
+            (double) cachedNanos / CALLS, jwtProvider.verifiedTokenStats().hitRate()
+        );
+    }
+}
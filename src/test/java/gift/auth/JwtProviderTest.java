@@ -0,0 +1,60 @@
+package gift.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtProviderTest {
+    private static final String SECRET = "a-test-secret-key-that-is-at-least-256-bits-long-for-hmac-sha";
+
+    @Test
+    @DisplayName("검증된 토큰은 다시 요청하면 캐시에서 주체를 반환한다")
+    void cachesVerifiedToken() {
+        var jwtProvider = new JwtProvider(SECRET, 60_000, 100);
+        String token = jwtProvider.createToken(7L, 3);
+
+        assertThat(jwtProvider.verify(token).claims()).isEqualTo(new TokenClaims("7", 3));
+        assertThat(jwtProvider.verify(token).claims().memberId()).isEqualTo(7L);
+
+        var stats = jwtProvider.verifiedTokenStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 예외 없이 거부된다")
+    void rejectsForgedToken() {
+        var jwtProvider = new JwtProvider(SECRET, 60_000, 100);
+        var forger = new JwtProvider(SECRET.replace('a', 'b'), 60_000, 100);
+        String forged = forger.createToken(1L, 0);
+
+        assertThat(jwtProvider.verify(forged).status()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(jwtProvider.verify(forged).status()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(jwtProvider.verifiedTokenStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("JWT 형식이 아닌 값은 파싱하지 않고 거부된다")
+    void rejectsMalformedToken() {
+        var jwtProvider = new JwtProvider(SECRET, 60_000, 100);
+
+        assertThat(jwtProvider.verify("not-a-token").status()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(jwtProvider.verify("a.b.c").status()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(jwtProvider.verify("").isValid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 거부된다")
+    void rejectsCachedTokenAfterExpiry() throws InterruptedException {
+        var jwtProvider = new JwtProvider(SECRET, 1_500, 100);
+        String token = jwtProvider.createToken(1L, 0);
+        assertThat(jwtProvider.verify(token).isValid()).isTrue();
+
+        Thread.sleep(1_600);
+
+        assertThat(jwtProvider.verify(token).status()).isEqualTo(TokenVerification.Status.EXPIRED);
+        assertThat(jwtProvider.verifiedTokenStats().size()).isZero();
+    }
+}
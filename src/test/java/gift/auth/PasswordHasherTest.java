@@ -0,0 +1,104 @@
+package gift.auth;
+
+import gift.common.DomainException;
+import gift.common.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+
+    private static PasswordHasher hasher(int threads, int queueCapacity, int iterations) {
+        return new PasswordHasher(new PasswordHashingProperties(
+            threads, queueCapacity, Duration.ofSeconds(30), Duration.ofMillis(1), iterations, Math.max(iterations, 2_000_000)));
+    }
+
+    @Test
+    @DisplayName("해시한 비밀번호는 같은 비밀번호와만 일치하고 솔트 때문에 매번 다르게 저장된다")
+    void hashesAndMatches() {
+        var hasher = hasher(1, 4, 1_000);
+
+        String first = hasher.hash("secret-password");
+        String second = hasher.hash("secret-password");
+
+        assertThat(first).startsWith("pbkdf2-sha256$").isNotEqualTo(second);
+        assertThat(hasher.matches("secret-password", first)).isTrue();
+        assertThat(hasher.matches("wrong-password", first)).isFalse();
+        assertThat(hasher.needsRehash(first)).isFalse();
+        assertThat(hasher.stats().completed()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("없는 계정 대신 검사하는 더미 해시는 현재 보정값을 쓰고 어떤 비밀번호와도 일치하지 않는다")
+    void dummyHash() {
+        var hasher = hasher(1, 4, 1_000);
+
+        assertThat(hasher.dummyHash()).startsWith("pbkdf2-sha256$");
+        assertThat(hasher.needsRehash(hasher.dummyHash())).isFalse();
+        assertThat(hasher.matches("password", hasher.dummyHash())).isFalse();
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 이전 비밀번호도 검증되며 재해시 대상이다")
+    void legacyPlaintext() {
+        var hasher = hasher(1, 4, 1_000);
+
+        assertThat(hasher.matches("password", "password")).isTrue();
+        assertThat(hasher.matches("other", "password")).isFalse();
+        assertThat(hasher.matches("password", null)).isFalse();
+        assertThat(hasher.needsRehash("password")).isTrue();
+    }
+
+    @Test
+    @DisplayName("현재 보정값보다 훨씬 약한 해시는 재해시 대상이다")
+    void weakerHashNeedsRehash() {
+        String weak = hasher(1, 4, 1_000).hash("password");
+
+        var stronger = hasher(1, 4, 100_000);
+
+        assertThat(stronger.matches("password", weak)).isTrue();
+        assertThat(stronger.needsRehash(weak)).isTrue();
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 모두 차면 기다리지 않고 즉시 거절한다")
+    void rejectsWhenSaturated() throws Exception {
+        var hasher = hasher(1, 1, 2_000_000);
+        int callers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<ErrorCode>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    hasher.hash("password");
+                    return null;
+                } catch (DomainException e) {
+                    return e.getCode();
+                }
+            }));
+        }
+        start.countDown();
+
+        int rejected = 0;
+        for (Future<ErrorCode> result : results) {
+            if (result.get() == ErrorCode.PASSWORD_HASHING_BUSY) {
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(rejected).isGreaterThanOrEqualTo(1).isLessThan(callers);
+        assertThat(hasher.stats().rejected()).isEqualTo(rejected);
+    }
+}
@@ -0,0 +1,77 @@
+package gift.autocomplete;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.category.CategoryRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class AutocompleteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        // drop names left by other tests' rolled-back writes
+        autocompleteService.rebuild();
+    }
+
+    @Test
+    @DisplayName("GET /api/products/autocomplete - 초성으로 상품과 카테고리 이름을 추천한다")
+    void autocompleteByChoseong() throws Exception {
+        var category = new CategoryRequest("맥주", "#FFD700", "https://example.com/img.jpg", "설명");
+        String response = mockMvc.perform(post("/api/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(category)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long categoryId = objectMapper.readTree(response).get("id").asLong();
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"name": "맥북 프로", "price": 3000000, "imageUrl": "https://example.com/img.jpg", "categoryId": %d}
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/products/autocomplete").param("prefix", "ㅁㅂ"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].type").value("PRODUCT"))
+            .andExpect(jsonPath("$[0].name").value("맥북 프로"));
+
+        mockMvc.perform(get("/api/products/autocomplete").param("prefix", "ㅁ"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].name", hasItems("맥주", "맥북 프로")));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/autocomplete - 일치하는 이름이 없으면 빈 목록을 반환한다")
+    void autocompleteWithoutMatches() throws Exception {
+        mockMvc.perform(get("/api/products/autocomplete").param("prefix", "ㅋㅋㅋㅋㅋ"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
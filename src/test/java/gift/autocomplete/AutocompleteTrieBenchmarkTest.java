@@ -0,0 +1,79 @@
+package gift.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Opt-in benchmark: ./gradlew test -Pbenchmark --tests '*AutocompleteTrieBenchmarkTest'
+ * Measures rebuild time and suggestion latency for syllable, choseong and mixed prefixes.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AutocompleteTrieBenchmarkTest {
+    private static final int NAMES = 1_000_000;
+    private static final int QUERIES = 50_000;
+
+    @Test
+    @DisplayName("백만 개 이름에서 접두사 추천 지연 시간을 측정한다")
+    void benchmark() {
+        Random random = new Random(7);
+        List<AutocompleteTrie.Document> documents = new ArrayList<>(NAMES);
+        List<String> names = new ArrayList<>(NAMES);
+        for (long id = 1; id <= NAMES; id++) {
+            String name = randomName(random);
+            names.add(name);
+            documents.add(new AutocompleteTrie.Document(SuggestionType.PRODUCT, id, name, random.nextInt(10_000)));
+        }
+
+        var trie = new AutocompleteTrie(10);
+        long startedAt = System.nanoTime();
+        trie.rebuild(() -> documents);
+        long rebuildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        assertThat(trie.size()).isEqualTo(NAMES);
+
+        for (String kind : new String[]{"syllable", "choseong", "mixed"}) {
+            String[] queries = new String[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                String name = AutocompleteTrie.normalize(names.get(random.nextInt(NAMES)));
+                String prefix = name.substring(0, Math.min(name.length(), 2));
+                queries[i] = switch (kind) {
+                    case "syllable" -> prefix;
+                    case "choseong" -> Hangul.initials(prefix);
+                    default -> prefix.charAt(0) + Hangul.initials(prefix.substring(1));
+                };
+            }
+            for (String query : queries) {
+                trie.suggest(query, 10);
+            }
+            long[] latencies = new long[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                long queryStartedAt = System.nanoTime();
+                trie.suggest(queries[i], 10);
+                latencies[i] = System.nanoTime() - queryStartedAt;
+            }
+            Arrays.sort(latencies);
+            System.out.printf(
+                "[autocomplete-benchmark] names=%d rebuild=%dms kind=%s p50=%.1fus p99=%.1fus max=%.1fus%n",
+                NAMES, rebuildMillis, kind,
+                latencies[QUERIES / 2] / 1_000.0, latencies[QUERIES * 99 / 100] / 1_000.0, latencies[QUERIES - 1] / 1_000.0
+            );
+        }
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(6);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // common syllables only, so prefixes are shared the way real catalog names share them
+            name.append((char) ('가' + random.nextInt(19) * 588 + random.nextInt(3) * 28));
+        }
+        return name.toString();
+    }
+}
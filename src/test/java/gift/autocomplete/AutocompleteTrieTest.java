@@ -0,0 +1,93 @@
+package gift.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    private static List<String> names(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::name).toList();
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 이름을 추천한다")
+    void suggestsByChoseong() {
+        var trie = new AutocompleteTrie(10);
+        trie.put(SuggestionType.PRODUCT, 1L, "맥북 프로");
+        trie.put(SuggestionType.PRODUCT, 2L, "무선 마우스");
+        trie.put(SuggestionType.CATEGORY, 3L, "맥주");
+
+        assertThat(names(trie.suggest("ㅁㅂ", 10))).containsExactly("맥북 프로");
+        assertThat(names(trie.suggest("ㅁ", 10))).containsExactlyInAnyOrder("맥북 프로", "무선 마우스", "맥주");
+    }
+
+    @Test
+    @DisplayName("완성된 음절과 초성을 섞어 입력해도 추천한다")
+    void suggestsByMixedInput() {
+        var trie = new AutocompleteTrie(10);
+        trie.put(SuggestionType.PRODUCT, 1L, "맥북 프로");
+        trie.put(SuggestionType.PRODUCT, 2L, "매직 마우스");
+        trie.put(SuggestionType.PRODUCT, 3L, "맥주잔");
+
+        assertThat(names(trie.suggest("맥ㅂ", 10))).containsExactly("맥북 프로");
+        assertThat(names(trie.suggest("맥", 10))).containsExactlyInAnyOrder("맥북 프로", "맥주잔");
+    }
+
+    @Test
+    @DisplayName("인기도가 높은 순으로 상위 k개를 반환한다")
+    void returnsTopKByWeight() {
+        var trie = new AutocompleteTrie(2);
+        trie.put(SuggestionType.PRODUCT, 1L, "케이크");
+        trie.put(SuggestionType.PRODUCT, 2L, "케이크 세트");
+        trie.put(SuggestionType.PRODUCT, 3L, "케이크 토퍼");
+
+        trie.updateWeight(SuggestionType.PRODUCT, 3L, 100);
+        trie.updateWeight(SuggestionType.PRODUCT, 2L, 50);
+        assertThat(names(trie.suggest("ㅋㅇ", 10))).containsExactly("케이크 토퍼", "케이크 세트");
+
+        trie.updateWeight(SuggestionType.PRODUCT, 3L, 0);
+        assertThat(names(trie.suggest("케이", 10))).containsExactly("케이크 세트", "케이크");
+    }
+
+    @Test
+    @DisplayName("이름을 바꾸거나 삭제하면 추천 결과에 즉시 반영된다")
+    void reflectsRenamesAndRemovals() {
+        var trie = new AutocompleteTrie(10);
+        trie.put(SuggestionType.PRODUCT, 1L, "초코 케이크");
+        trie.put(SuggestionType.CATEGORY, 1L, "초콜릿");
+
+        trie.put(SuggestionType.PRODUCT, 1L, "딸기 타르트");
+        assertThat(names(trie.suggest("ㅊㅋ", 10))).containsExactly("초콜릿");
+        assertThat(names(trie.suggest("ㄸㄱ", 10))).containsExactly("딸기 타르트");
+
+        trie.remove(SuggestionType.CATEGORY, 1L);
+        assertThat(trie.suggest("초", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자를 구분하지 않고 추천한다")
+    void suggestsLatinCaseInsensitive() {
+        var trie = new AutocompleteTrie(10);
+        trie.put(SuggestionType.PRODUCT, 1L, "MacBook Air");
+
+        assertThat(names(trie.suggest("macb", 10))).containsExactly("MacBook Air");
+    }
+
+    @Test
+    @DisplayName("재구성하면 각 노드의 상위 목록이 다시 계산된다")
+    void rebuildRecomputesTopLists() {
+        var trie = new AutocompleteTrie(1);
+        trie.rebuild(() -> List.of(
+            new AutocompleteTrie.Document(SuggestionType.PRODUCT, 1L, "사과", 1),
+            new AutocompleteTrie.Document(SuggestionType.PRODUCT, 2L, "사과즙", 5)
+        ));
+
+        assertThat(names(trie.suggest("ㅅㄱ", 10))).containsExactly("사과즙");
+        assertThat(names(trie.suggest("사과", 10))).containsExactly("사과즙");
+    }
+}
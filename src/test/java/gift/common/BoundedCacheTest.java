@@ -0,0 +1,69 @@
+package gift.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목이 제거된다")
+    void evictsLeastRecentlyUsed() {
+        var cache = new BoundedCache<String, Integer>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertThat(cache.get("a")).contains(1);
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).contains(3);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않는다")
+    void expiresEntries() throws InterruptedException {
+        var cache = new BoundedCache<String, Integer>(10, Duration.ofMillis(1));
+        cache.put("a", 1);
+
+        Thread.sleep(5);
+
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("적중과 실패 횟수를 집계한다")
+    void recordsHitsAndMisses() {
+        var cache = new BoundedCache<String, Integer>(10, Duration.ofMinutes(1));
+        cache.put("a", 1);
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        var stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("무효화하면 항목이 제거된다")
+    void invalidates() {
+        var cache = new BoundedCache<String, Integer>(10, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.invalidate("a");
+        assertThat(cache.get("a")).isEmpty();
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package gift.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Opt-in benchmark: ./gradlew test -Pbenchmark --tests '*NameValidatorBenchmarkTest'
+ * Compares the former regex + contains() check with the bitmap + Aho–Corasick pass over a dictionary
+ * of several hundred terms, after a warm-up round for each.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NameValidatorBenchmarkTest {
+    private static final Pattern ALLOWED_PATTERN = Pattern.compile("^[a-zA-Z0-9가-힣ㄱ-ㅎㅏ-ㅣ ()\\[\\]+\\-&/_]*$");
+    private static final int NAMES = 200_000;
+    private static final int TERMS = 500;
+    private static final int ROUNDS = 5;
+
+    @Test
+    @DisplayName("정규식 검증과 비트맵 + Aho–Corasick 검증의 처리량을 비교한다")
+    void benchmark() {
+        Random random = new Random(42);
+        List<RestrictedTerm> dictionary = new ArrayList<>();
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < TERMS; i++) {
+            String term = randomHangul(random, 2 + random.nextInt(3));
+            terms.add(term);
+            dictionary.add(new RestrictedTerm(term, RestrictedTerm.Kind.APPROVAL_REQUIRED));
+        }
+        String[] names = new String[NAMES];
+        for (int i = 0; i < NAMES; i++) {
+            names[i] = randomHangul(random, 4 + random.nextInt(8)) + " " + random.nextInt(100);
+        }
+
+        RestrictedTermMatcher matcher = RestrictedTermMatcher.compile(dictionary);
+        long regexErrors = 0;
+        long automatonErrors = 0;
+        long regexNanos = Long.MAX_VALUE;
+        long automatonNanos = Long.MAX_VALUE;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            regexErrors = 0;
+            for (String name : names) {
+                regexErrors += regexValidate(name, terms);
+            }
+            long regexElapsed = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            automatonErrors = 0;
+            for (String name : names) {
+                automatonErrors += NameValidator.validate(name, "Product name", 15, matcher).isEmpty() ? 0 : 1;
+            }
+            long automatonElapsed = System.nanoTime() - startedAt;
+
+            // round 0 is warm-up
+            if (round > 0) {
+                regexNanos = Math.min(regexNanos, regexElapsed);
+                automatonNanos = Math.min(automatonNanos, automatonElapsed);
+            }
+        }
+        assertThat(automatonErrors).isEqualTo(regexErrors);
+
+        System.out.printf(
+            "[name-validator-benchmark] names=%d terms=%d rejected=%d regex=%.1fns/name automaton=%.1fns/name%n",
+            NAMES, TERMS, automatonErrors, (double) regexNanos / NAMES, (double) automatonNanos / NAMES
+        );
+    }
+
+    // the pre-automaton approach: one regex match plus a contains() per restricted term
+    private static int regexValidate(String name, List<String> terms) {
+        if (name.length() > 15 || !ALLOWED_PATTERN.matcher(name).matches()) {
+            return 1;
+        }
+        for (String term : terms) {
+            if (name.contains(term)) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private static String randomHangul(Random random, int length) {
+        // a small syllable range so that some names contain dictionary terms
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('가' + random.nextInt(40));
+        }
+        return new String(chars);
+    }
+}
@@ -12,6 +12,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class NameValidatorTest {
+    private static final RestrictedTermMatcher KAKAO = RestrictedTermMatcher.compile(
+        List.of(new RestrictedTerm("카카오", RestrictedTerm.Kind.APPROVAL_REQUIRED)));
 
     @Nested
     @DisplayName("상품 이름 검증 (maxLength=15, checkKakao=true)")
@@ -21,7 +23,7 @@ class NameValidatorTest {
         @ValueSource(strings = {"상품", "Product", "상품123", "상품 (A)", "테스트[1]", "A+B", "A-B", "A&B", "A/B", "A_B"})
         @DisplayName("허용된 문자로 구성된 이름은 에러가 없다")
         void validNames(String name) {
-            List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+            List<String> errors = NameValidator.validate(name, "Product name", 15, KAKAO);
 
             assertThat(errors).isEmpty();
         }
@@ -30,7 +32,7 @@ class NameValidatorTest {
         @DisplayName("최대 15자까지 허용된다")
         void exactlyMaxLength() {
             String name = "가나다라마바사아자차카타파";  // 13자
-            List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+            List<String> errors = NameValidator.validate(name, "Product name", 15, KAKAO);
 
             assertThat(errors).isEmpty();
         }
@@ -39,7 +41,7 @@ class NameValidatorTest {
         @DisplayName("공백을 포함한 15자 이름도 허용된다")
         void maxLengthWithSpaces() {
             String name = "가 나 다 라 마 바 사아"; // 15자 (공백 포함)
-            List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+            List<String> errors = NameValidator.validate(name, "Product name", 15, KAKAO);
 
             assertThat(errors).isEmpty();
         }
@@ -48,7 +50,7 @@ class NameValidatorTest {
         @NullAndEmptySource
         @DisplayName("null이나 빈 문자열이면 에러가 발생한다")
         void nullOrEmpty(String name) {
-            List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+            List<String> errors = NameValidator.validate(name, "Product name", 15, KAKAO);
 
             assertThat(errors).isNotEmpty();
             assertThat(errors.get(0)).contains("required");
@@ -57,7 +59,7 @@ class NameValidatorTest {
         @Test
         @DisplayName("공백만으로 구성된 이름이면 에러가 발생한다")
         void blankName() {
-            List<String> errors = NameValidator.validate("   ", "Product name", 15, true);
+            List<String> errors = NameValidator.validate("   ", "Product name", 15, KAKAO);
 
             assertThat(errors).isNotEmpty();
             assertThat(errors.get(0)).contains("required");
@@ -67,7 +69,7 @@ class NameValidatorTest {
         @DisplayName("16자 이상이면 길이 초과 에러가 발생한다")
         void exceedsMaxLength() {
             String name = "가나다라마바사아자차카타파하거너"; // 16자
-            List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+            List<String> errors = NameValidator.validate(name, "Product name", 15, KAKAO);
 
             assertThat(errors).anyMatch(e -> e.contains("15 characters"));
         }
@@ -76,7 +78,7 @@ class NameValidatorTest {
         @ValueSource(strings = {"상품!!", "상품@", "상품#", "상품$", "상품%", "상품^"})
         @DisplayName("허용되지 않는 특수 문자가 포함되면 에러가 발생한다")
         void invalidSpecialChars(String name) {
-            List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+            List<String> errors = NameValidator.validate(name, "Product name", 15, KAKAO);
 
             assertThat(errors).anyMatch(e -> e.contains("invalid special characters"));
         }
@@ -84,7 +86,7 @@ class NameValidatorTest {
         @Test
         @DisplayName("카카오가 포함된 이름은 checkKakao=true일 때 에러가 발생한다")
         void kakaoNotAllowedWhenCheckEnabled() {
-            List<String> errors = NameValidator.validate("카카오선물", "Product name", 15, true);
+            List<String> errors = NameValidator.validate("카카오선물", "Product name", 15, KAKAO);
 
             assertThat(errors).anyMatch(e -> e.contains("카카오"));
         }
@@ -92,7 +94,7 @@ class NameValidatorTest {
         @Test
         @DisplayName("카카오가 포함된 이름은 checkKakao=false일 때 에러가 없다")
         void kakaoAllowedWhenCheckDisabled() {
-            List<String> errors = NameValidator.validate("카카오선물", "Product name", 15, false);
+            List<String> errors = NameValidator.validate("카카오선물", "Product name", 15, null);
 
             assertThat(errors).isEmpty();
         }
@@ -109,7 +111,7 @@ class NameValidatorTest {
         @DisplayName("길이 초과와 허용되지 않는 문자를 동시에 검증한다")
         void lengthAndCharacterErrors() {
             String name = "abcdefghijklmnop!"; // 17자 + 특수문자
-            List<String> errors = NameValidator.validate(name, "Product name", 15, true);
+            List<String> errors = NameValidator.validate(name, "Product name", 15, KAKAO);
 
             assertThat(errors).hasSizeGreaterThanOrEqualTo(2);
         }
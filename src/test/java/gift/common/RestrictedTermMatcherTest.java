@@ -0,0 +1,70 @@
+package gift.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestrictedTermMatcherTest {
+    private static final RestrictedTerm KAKAO = new RestrictedTerm("카카오", RestrictedTerm.Kind.APPROVAL_REQUIRED);
+    private static final RestrictedTerm KAKAO_FRIENDS = new RestrictedTerm("카카오프렌즈", RestrictedTerm.Kind.RESTRICTED);
+    private static final RestrictedTerm FRIENDS = new RestrictedTerm("프렌즈", RestrictedTerm.Kind.APPROVAL_REQUIRED);
+    private static final RestrictedTerm REPLICA = new RestrictedTerm("Replica", RestrictedTerm.Kind.RESTRICTED);
+
+    private final RestrictedTermMatcher matcher = RestrictedTermMatcher.compile(List.of(KAKAO, KAKAO_FRIENDS, FRIENDS, REPLICA));
+
+    @Test
+    @DisplayName("사전의 단어가 없으면 아무것도 찾지 않는다")
+    void noMatch() {
+        assertThat(matcher.findFirst("아메리카노 세트")).isNull();
+        assertThat(matcher.findFirst("카카")).isNull();
+    }
+
+    @Test
+    @DisplayName("문장 중간의 단어를 찾는다")
+    void findsTermInside() {
+        assertThat(matcher.findFirst("신상 카카오 인형")).isEqualTo(KAKAO);
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라 겹치는 단어를 찾는다")
+    void followsFailureLinks() {
+        // "카카카오" fails after "카카" and must resume from the suffix "카"
+        assertThat(matcher.findFirst("카카카오")).isEqualTo(KAKAO);
+    }
+
+    @Test
+    @DisplayName("한 위치에서 끝나는 모든 단어를 수집한다")
+    void collectsAllTermsEndingAtState() {
+        List<RestrictedTerm> found = new ArrayList<>();
+        int state = RestrictedTermMatcher.ROOT;
+        for (char c : "카카오프렌즈".toCharArray()) {
+            state = matcher.step(state, c);
+            if (matcher.matches(state)) {
+                matcher.collect(state, found);
+            }
+        }
+
+        assertThat(found).containsExactly(KAKAO, KAKAO_FRIENDS, FRIENDS);
+    }
+
+    @Test
+    @DisplayName("영문 단어는 대소문자를 구분하지 않는다")
+    void ignoresCase() {
+        assertThat(matcher.findFirst("REPLICA bag")).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("중복된 단어는 처음 것만 남는다")
+    void keepsFirstDuplicate() {
+        var duplicate = new RestrictedTerm("카카오", RestrictedTerm.Kind.RESTRICTED);
+
+        var compiled = RestrictedTermMatcher.compile(List.of(KAKAO, duplicate));
+
+        assertThat(compiled.size()).isEqualTo(1);
+        assertThat(compiled.findFirst("카카오")).isEqualTo(KAKAO);
+    }
+}
@@ -0,0 +1,83 @@
+package gift.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("ID에 타임스탬프와 노드 번호가 담긴다")
+    void encodesTimestampAndNode() {
+        var snowflake = new Snowflake(7, () -> NOW);
+
+        long id = snowflake.nextId();
+
+        assertThat(Snowflake.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(Snowflake.nodeIdOf(id)).isEqualTo(7);
+        assertThat(id).isPositive();
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 시퀀스를 모두 쓰면 다음 밀리초로 넘어가며 계속 증가한다")
+    void rollsOverSequence() {
+        var snowflake = new Snowflake(0, () -> NOW);
+
+        long previous = snowflake.nextId();
+        for (int i = 0; i < 5_000; i++) {
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        assertThat(Snowflake.timestampOf(previous)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 줄어들지 않는다")
+    void toleratesClockGoingBackwards() {
+        var clock = new AtomicLong(NOW);
+        var snowflake = new Snowflake(0, clock::get);
+
+        long before = snowflake.nextId();
+        clock.set(NOW - 10_000);
+        long after = snowflake.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 ID가 중복되지 않는다")
+    void uniqueAcrossThreads() {
+        var snowflake = new Snowflake(1, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(snowflake.nextId()));
+
+        assertThat(ids).hasSize(200_000);
+    }
+
+    @Test
+    @DisplayName("노드 번호를 설정하지 않으면 시작할 수 없다")
+    void requiresConfiguredNode() {
+        assertThatThrownBy(() -> new SnowflakeProperties(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("snowflake.node-id");
+    }
+
+    @Test
+    @DisplayName("노드 번호가 범위를 벗어나면 생성할 수 없다")
+    void rejectsInvalidNode() {
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1, () -> NOW))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
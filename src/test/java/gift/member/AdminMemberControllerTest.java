@@ -0,0 +1,82 @@
+package gift.member;
+
+import gift.auth.PasswordHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class AdminMemberControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("admin-edit@example.com", passwordHasher.hash("password123")));
+    }
+
+    @Test
+    @DisplayName("GET /admin/members/{id}/edit - 수정 폼은 저장된 비밀번호 해시를 내려보내지 않는다")
+    void editFormDoesNotRenderPassword() throws Exception {
+        mockMvc.perform(get("/admin/members/{id}/edit", member.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string(not(containsString(member.getPassword()))));
+    }
+
+    @Test
+    @DisplayName("POST /admin/members/{id}/edit - 비밀번호를 비워 두면 이메일만 바뀌고 비밀번호와 토큰은 유지된다")
+    void editWithBlankPasswordKeepsPassword() throws Exception {
+        String stored = member.getPassword();
+        int tokenVersion = member.getTokenVersion();
+
+        mockMvc.perform(post("/admin/members/{id}/edit", member.getId())
+                .param("email", "renamed@example.com")
+                .param("password", ""))
+            .andExpect(status().is3xxRedirection());
+
+        Member updated = memberRepository.findById(member.getId()).orElseThrow();
+        assertThat(updated.getEmail()).isEqualTo("renamed@example.com");
+        assertThat(updated.getPassword()).isEqualTo(stored);
+        assertThat(updated.getTokenVersion()).isEqualTo(tokenVersion);
+        assertThat(passwordHasher.matches("password123", updated.getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST /admin/members/{id}/edit - 새 비밀번호를 입력하면 해시로 저장하고 기존 토큰을 무효화한다")
+    void editWithNewPasswordRehashes() throws Exception {
+        int tokenVersion = member.getTokenVersion();
+
+        mockMvc.perform(post("/admin/members/{id}/edit", member.getId())
+                .param("email", member.getEmail())
+                .param("password", "new-password"))
+            .andExpect(status().is3xxRedirection());
+
+        Member updated = memberRepository.findById(member.getId()).orElseThrow();
+        assertThat(passwordHasher.matches("new-password", updated.getPassword())).isTrue();
+        assertThat(updated.getTokenVersion()).isEqualTo(tokenVersion + 1);
+    }
+}
@@ -0,0 +1,94 @@
+package gift.member;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class MemberCacheTest {
+
+    @Autowired
+    private MemberCache memberCache;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("cache-test@example.com", "password"));
+    }
+
+    @Test
+    @DisplayName("같은 이메일을 다시 조회하면 캐시에서 복사본을 반환한다")
+    void returnsCopiesFromCache() {
+        var first = memberCache.findByEmail("cache-test@example.com").orElseThrow();
+        first.chargePoint(1_000);
+        var second = memberCache.findByEmail("cache-test@example.com").orElseThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPoint()).isZero();
+        assertThat(memberCache.stats().hits()).isEqualTo(1);
+        assertThat(memberCache.findById(member.getId())).get().extracting(Member::getEmail).isEqualTo("cache-test@example.com");
+    }
+
+    @Test
+    @DisplayName("포인트를 충전하거나 차감하면 캐시된 회원이 무효화된다")
+    void pointChangesEvict() {
+        memberCache.findByEmail("cache-test@example.com");
+
+        memberService.chargePoint(member.getId(), 5_000);
+        assertThat(memberCache.findByEmail("cache-test@example.com")).get().extracting(Member::getPoint).isEqualTo(5_000);
+
+        memberService.deductPoint(member.getId(), 2_000);
+        assertThat(memberCache.findByEmail("cache-test@example.com")).get().extracting(Member::getPoint).isEqualTo(3_000);
+    }
+
+    @Test
+    @DisplayName("이메일을 변경하면 이전 이메일로는 조회되지 않는다")
+    void updateEvicts() {
+        memberCache.findByEmail("cache-test@example.com");
+
+        memberService.update(member.getId(), "renamed@example.com", "password");
+
+        assertThat(memberCache.findByEmail("cache-test@example.com")).isEmpty();
+        assertThat(memberCache.findByEmail("renamed@example.com")).get().extracting(Member::getId).isEqualTo(member.getId());
+    }
+
+    @Test
+    @DisplayName("삭제된 회원은 캐시에서도 조회되지 않는다")
+    void deleteEvicts() {
+        memberCache.findById(member.getId());
+
+        memberService.delete(member.getId());
+
+        assertThat(memberCache.findById(member.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 토큰을 폐기하거나 회원을 삭제해도 토큰 버전 TTL이 지나면 반영된다")
+    void tokenVersionFollowsWritesElsewhere() {
+        var shortLived = new MemberCache(memberRepository, new MemberCacheProperties(100, Duration.ofMinutes(5), Duration.ZERO));
+        assertThat(shortLived.findTokenVersion(member.getId())).contains(0);
+
+        // straight through the repository, so this instance's cache is never told
+        memberRepository.revokeTokens(member.getId());
+        assertThat(shortLived.findTokenVersion(member.getId())).contains(1);
+
+        memberRepository.deleteById(member.getId());
+        memberRepository.flush();
+        assertThat(shortLived.findTokenVersion(member.getId())).isEmpty();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -38,6 +39,9 @@ class MemberControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isCreated())
             .andExpect(jsonPath("$.token").exists());
+
+        var stored = memberRepository.findByEmail("newuser@example.com").orElseThrow().getPassword();
+        assertThat(stored).startsWith("pbkdf2-sha256$").doesNotContain("password123");
     }
 
     @Test
@@ -87,6 +91,25 @@ class MemberControllerTest {
             .andExpect(jsonPath("$.token").exists());
     }
 
+    @Test
+    @DisplayName("POST /api/members/login - 평문으로 저장된 비밀번호는 로그인에 성공하면 해시로 바뀐다")
+    void loginUpgradesPlaintextPassword() throws Exception {
+        memberRepository.save(new Member("legacy@example.com", "password123"));
+        var request = new MemberRequest("legacy@example.com", "password123");
+
+        mockMvc.perform(post("/api/members/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk());
+
+        var stored = memberRepository.findByEmail("legacy@example.com").orElseThrow().getPassword();
+        assertThat(stored).startsWith("pbkdf2-sha256$");
+        mockMvc.perform(post("/api/members/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("POST /api/members/login - 잘못된 비밀번호로 로그인하면 400을 반환한다")
     void loginWrongPassword() throws Exception {
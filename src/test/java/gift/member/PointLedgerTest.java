@@ -0,0 +1,102 @@
+package gift.member;
+
+import gift.common.InvalidRequestException;
+import gift.common.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class PointLedgerTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(new Member("ledger@example.com", "password")).getId();
+    }
+
+    @Test
+    @DisplayName("충전과 차감은 잔액을 갱신하고 원장에 기록된다")
+    void chargeAndDeductAreRecorded() {
+        memberService.chargePoint(memberId, 5000);
+        memberService.deductPoint(memberId, 3000);
+
+        assertThat(memberService.findById(memberId).getPoint()).isEqualTo(2000);
+        assertThat(pointTransactionRepository.sumAmountByMemberId(memberId)).isEqualTo(2000);
+        assertThat(pointTransactionRepository.findAll())
+            .filteredOn(transaction -> transaction.getMemberId().equals(memberId))
+            .extracting(PointTransaction::getType)
+            .containsExactly(PointTransaction.Type.CHARGE, PointTransaction.Type.DEDUCT);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 차감되지 않고 원장에도 기록되지 않는다")
+    void insufficientPointsLeaveBalanceUntouched() {
+        memberService.chargePoint(memberId, 1000);
+
+        assertThatThrownBy(() -> memberService.deductPoint(memberId, 1001))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Insufficient");
+
+        assertThat(memberService.findById(memberId).getPoint()).isEqualTo(1000);
+        assertThat(pointTransactionRepository.sumAmountByMemberId(memberId)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원에게 충전하면 예외가 발생한다")
+    void chargeUnknownMemberThrows() {
+        assertThatThrownBy(() -> memberService.chargePoint(999999L, 1000))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("0 이하의 금액은 충전할 수 없다")
+    void chargeNonPositiveThrows() {
+        assertThatThrownBy(() -> memberService.chargePoint(memberId, 0))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("원장 합계와 잔액이 같으면 정합성이 확인된다")
+    void reconcileConsistentBalance() {
+        memberService.chargePoint(memberId, 7000);
+        memberService.deductPoint(memberId, 2000);
+
+        var reconciliation = memberService.reconcilePoint(memberId);
+
+        assertThat(reconciliation.balance()).isEqualTo(5000);
+        assertThat(reconciliation.ledgerSum()).isEqualTo(5000);
+        assertThat(reconciliation.consistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("원장을 거치지 않은 잔액 변경은 불일치로 보고된다")
+    void reconcileDetectsDrift() {
+        var member = memberRepository.save(new Member("drift@example.com", "password"));
+        member.chargePoint(100);
+        memberRepository.saveAndFlush(member);
+
+        var reconciliation = memberService.reconcilePoint(member.getId());
+
+        assertThat(reconciliation.balance()).isEqualTo(100);
+        assertThat(reconciliation.ledgerSum()).isZero();
+        assertThat(reconciliation.consistent()).isFalse();
+    }
+}
@@ -5,13 +5,16 @@ import gift.category.Category;
 import gift.category.CategoryRepository;
 import gift.product.Product;
 import gift.product.ProductRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +45,15 @@ class OptionControllerTest {
     @Autowired
     private OptionRepository optionRepository;
 
+    @Autowired
+    private OptionService optionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Product product;
 
     @BeforeEach
@@ -58,7 +70,60 @@ class OptionControllerTest {
 
         mockMvc.perform(get("/api/products/" + product.getId() + "/options"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(2)));
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].id").isString());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{productId}/options - 재고가 차감되면 이전 ETag로 조회해도 변경된 수량을 받는다")
+    void getOptionsAfterStockChange() throws Exception {
+        var option = optionRepository.save(new Option(product, "옵션A", 10));
+        String etag = mockMvc.perform(get("/api/products/" + product.getId() + "/options"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/products/" + product.getId() + "/options").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        optionService.subtractQuantity(option.getId(), 3);
+
+        mockMvc.perform(get("/api/products/" + product.getId() + "/options").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].quantity").value(7));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{productId}/options - 옵션을 지우고 새로 추가해 개수가 같아도 이전 ETag는 맞지 않는다")
+    void getOptionsAfterReplacingOption() throws Exception {
+        optionRepository.save(new Option(product, "옵션A", 10));
+        var replaced = optionRepository.save(new Option(product, "옵션B", 10));
+        String etag = mockMvc.perform(get("/api/products/" + product.getId() + "/options"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        optionRepository.delete(replaced);
+        optionRepository.save(new Option(product, "옵션C", 10));
+
+        mockMvc.perform(get("/api/products/" + product.getId() + "/options").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[?(@.name == '옵션C')]").exists());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{productId}/options - 다른 인스턴스가 옵션을 바꿔도 이전 ETag는 맞지 않는다")
+    void getOptionsAfterWriteThroughAnotherInstance() throws Exception {
+        optionRepository.save(new Option(product, "옵션A", 10));
+        entityManager.flush();
+        String etag = mockMvc.perform(get("/api/products/" + product.getId() + "/options"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // another instance shares nothing with this one but the database
+        entityManager.clear();
+        jdbcTemplate.update("update options set quantity = 4 where product_id = ?", product.getId());
+        jdbcTemplate.update("update catalog_version set version = version + 1 where collection_key = ?",
+            Option.collectionKey(product.getId()));
+
+        mockMvc.perform(get("/api/products/" + product.getId() + "/options").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].quantity").value(4));
     }
 
     @Test
@@ -0,0 +1,146 @@
+package gift.option;
+
+import gift.category.Category;
+import gift.category.CategoryRepository;
+import gift.common.InvalidRequestException;
+import gift.product.Product;
+import gift.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Contention stress suite for the guarded stock decrement.
+ * Runs without a test transaction so that every decrement commits on its own connection.
+ */
+@SpringBootTest
+class OptionStockConcurrencyTest {
+    private static final int THREADS = 200;
+    private static final int REQUESTS_PER_THREAD = 5;
+
+    @Autowired
+    private OptionService optionService;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(new Category("동시성", "#000000", "https://example.com/img.jpg", "설명"));
+        product = productRepository.save(new Product("동시성상품", 1000, "https://example.com/img.jpg", category));
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteAll(optionRepository.findByProductId(product.getId()));
+        productRepository.deleteById(product.getId());
+        categoryRepository.deleteById(category.getId());
+    }
+
+    @Test
+    @DisplayName("수백 개의 스레드가 동시에 재고를 차감해도 초과 판매가 발생하지 않는다")
+    void concurrentSubtractNeverOversells() throws Exception {
+        int stock = THREADS * REQUESTS_PER_THREAD / 2;
+        Option option = optionRepository.save(new Option(product, "한정판", stock));
+
+        Result result = hammer(option.getId(), 1);
+
+        int remaining = optionRepository.findById(option.getId()).orElseThrow().getQuantity();
+        report("single-unit", result, stock, remaining);
+        assertThat(result.errors()).isZero();
+        assertThat(result.succeeded()).isEqualTo(stock);
+        assertThat(result.rejected()).isEqualTo(THREADS * REQUESTS_PER_THREAD - stock);
+        assertThat(remaining).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 수량을 동시에 차감해도 재고가 음수가 되지 않는다")
+    void concurrentMultiUnitSubtractNeverGoesNegative() throws Exception {
+        int stock = 997;
+        int amount = 3;
+        Option option = optionRepository.save(new Option(product, "한정판", stock));
+
+        Result result = hammer(option.getId(), amount);
+
+        int remaining = optionRepository.findById(option.getId()).orElseThrow().getQuantity();
+        report("multi-unit", result, stock, remaining);
+        assertThat(result.errors()).isZero();
+        assertThat(result.succeeded()).isEqualTo(stock / amount);
+        assertThat(remaining).isEqualTo(stock % amount);
+    }
+
+    private Result hammer(Long optionId, int amount) throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                    try {
+                        optionService.subtractQuantity(optionId, amount);
+                        succeeded.incrementAndGet();
+                    } catch (InvalidRequestException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        return new Result(succeeded.get(), rejected.get(), errors.get(), elapsedNanos);
+    }
+
+    private void report(String scenario, Result result, int stock, int remaining) {
+        int total = result.succeeded() + result.rejected() + result.errors();
+        double seconds = result.elapsedNanos() / 1_000_000_000.0;
+        int oversold = Math.max(0, -remaining);
+        System.out.printf(
+            "[stock-stress:%s] threads=%d requests=%d succeeded=%d rejected=%d errors=%d "
+                + "stock=%d remaining=%d oversold=%d elapsed=%.3fs throughput=%.1f req/s%n",
+            scenario, THREADS, total, result.succeeded(), result.rejected(), result.errors(),
+            stock, remaining, oversold, seconds, total / seconds
+        );
+    }
+
+    private record Result(int succeeded, int rejected, int errors, long elapsedNanos) {
+    }
+}
@@ -21,9 +21,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -56,6 +61,9 @@ class OrderControllerTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderNotificationOutboxRepository outboxRepository;
+
     @MockitoBean
     private KakaoMessageClient kakaoMessageClient;
 
@@ -68,7 +76,7 @@ class OrderControllerTest {
         member = new Member("order-test@example.com", "password");
         member.chargePoint(10_000_000);
         member = memberRepository.save(member);
-        token = jwtProvider.createToken(member.getEmail());
+        token = jwtProvider.createToken(member.getId(), member.getTokenVersion());
 
         var category = categoryRepository.save(new Category("전자기기", "#1E90FF", "https://example.com/img.jpg", "설명"));
         var product = productRepository.save(new Product("테스트상품", 10000, "https://example.com/img.jpg", category));
@@ -85,7 +93,8 @@ class OrderControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isCreated())
-            .andExpect(jsonPath("$.optionId").value(option.getId()))
+            .andExpect(jsonPath("$.id").isString())
+            .andExpect(jsonPath("$.optionId").value(option.getId().toString()))
             .andExpect(jsonPath("$.quantity").value(2))
             .andExpect(jsonPath("$.message").value("선물입니다"));
 
@@ -142,7 +151,8 @@ class OrderControllerTest {
                 .header("Authorization", "Bearer " + token)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("OUT_OF_STOCK"));
     }
 
     @Test
@@ -152,7 +162,7 @@ class OrderControllerTest {
         var poorMember = new Member("poor@example.com", "password");
         poorMember.chargePoint(100);  // 100원만 보유
         poorMember = memberRepository.save(poorMember);
-        var poorToken = jwtProvider.createToken(poorMember.getEmail());
+        var poorToken = jwtProvider.createToken(poorMember.getId(), poorMember.getTokenVersion());
 
         var request = new OrderRequest(option.getId(), 1, null);  // 10000원짜리 상품
 
@@ -160,7 +170,8 @@ class OrderControllerTest {
                 .header("Authorization", "Bearer " + poorToken)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INSUFFICIENT_POINTS"));
     }
 
     @Test
@@ -183,4 +194,224 @@ class OrderControllerTest {
                 .header("Authorization", "Bearer invalid-token"))
             .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("POST /api/orders/checkout - 여러 옵션을 한 번에 주문하면 재고와 포인트가 한 번에 차감된다")
+    void checkout() throws Exception {
+        var product = option.getProduct();
+        var otherOption = optionRepository.save(new Option(product, "추가옵션", 10));
+        var request = new CheckoutRequest(List.of(
+            new CheckoutRequest.Item(otherOption.getId(), 3),
+            new CheckoutRequest.Item(option.getId(), 2)
+        ), "장바구니 선물");
+
+        mockMvc.perform(post("/api/orders/checkout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.orders.length()").value(2))
+            .andExpect(jsonPath("$.orders[0].optionId").value(option.getId().toString()))
+            .andExpect(jsonPath("$.orders[1].optionId").value(otherOption.getId().toString()))
+            .andExpect(jsonPath("$.totalPrice").value(50000));
+
+        assertThat(optionRepository.findById(option.getId()).orElseThrow().getQuantity()).isEqualTo(98);
+        assertThat(optionRepository.findById(otherOption.getId()).orElseThrow().getQuantity()).isEqualTo(7);
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getPoint())
+            .isEqualTo(10_000_000 - 50000);
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/checkout - 카카오 회원이 최대 크기의 장바구니를 주문해도 알림은 요약되어 저장된다")
+    void checkoutLargeCartSummarizesNotification() throws Exception {
+        member.updateKakaoAccessToken("kakao-access-token");
+        member = memberRepository.save(member);
+        var category = categoryRepository.save(new Category("대용량", "#000000", "https://example.com/img.jpg", "설명"));
+        var product = productRepository.save(new Product("가".repeat(15), 100, "https://example.com/img.jpg", category));
+        List<CheckoutRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            var cartOption = optionRepository.save(new Option(product, "%03d".formatted(i) + "옵".repeat(47), 10));
+            items.add(new CheckoutRequest.Item(cartOption.getId(), 1));
+        }
+        var request = new CheckoutRequest(items, "메".repeat(255));
+
+        mockMvc.perform(post("/api/orders/checkout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.orders.length()").value(100));
+
+        var payload = outboxRepository.findAll().stream()
+            .filter(outbox -> outbox.getMemberId().equals(member.getId()))
+            .findFirst()
+            .orElseThrow()
+            .getPayload();
+        assertThat(payload).hasSizeLessThanOrEqualTo(2000).contains("선물 100개", "외 95건", "금액: 10,000원");
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/checkout - 같은 옵션이 여러 줄이면 하나의 주문으로 합쳐진다")
+    void checkoutMergesDuplicateLines() throws Exception {
+        var request = new CheckoutRequest(List.of(
+            new CheckoutRequest.Item(option.getId(), 1),
+            new CheckoutRequest.Item(option.getId(), 4)
+        ), null);
+
+        mockMvc.perform(post("/api/orders/checkout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.orders.length()").value(1))
+            .andExpect(jsonPath("$.orders[0].quantity").value(5));
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/checkout - 한 품목이라도 재고가 부족하면 400을 반환한다")
+    void checkoutExceedingStock() throws Exception {
+        var request = new CheckoutRequest(List.of(
+            new CheckoutRequest.Item(option.getId(), 1),
+            new CheckoutRequest.Item(option.getId(), 100)
+        ), null);
+
+        mockMvc.perform(post("/api/orders/checkout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/checkout - 합계가 포인트 한도를 넘으면 넘친 금액을 차감하지 않고 400을 반환한다")
+    void checkoutRejectsOverflowingTotal() throws Exception {
+        var bulkOption = optionRepository.save(new Option(option.getProduct(), "대량옵션", 1_000_000));
+        var request = new CheckoutRequest(List.of(
+            new CheckoutRequest.Item(bulkOption.getId(), 150_000),
+            new CheckoutRequest.Item(bulkOption.getId(), 150_000)
+        ), null);
+
+        mockMvc.perform(post("/api/orders/checkout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getPoint()).isEqualTo(10_000_000);
+    }
+
+    @Test
+    @DisplayName("POST /api/orders/checkout - 빈 장바구니는 400을 반환한다")
+    void checkoutEmptyCart() throws Exception {
+        var request = new CheckoutRequest(List.of(), null);
+
+        mockMvc.perform(post("/api/orders/checkout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/orders - 같은 Idempotency-Key로 재시도하면 재고와 포인트를 다시 차감하지 않는다")
+    void createOrderWithIdempotencyKeyReplays() throws Exception {
+        var request = new OrderRequest(option.getId(), 2, "재시도");
+        var body = objectMapper.writeValueAsString(request);
+
+        var first = mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + token)
+                .header("Idempotency-Key", "retry-key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn();
+        var orderId = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asText();
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + token)
+                .header("Idempotency-Key", "retry-key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andExpect(jsonPath("$.id").value(orderId));
+
+        assertThat(optionRepository.findById(option.getId()).orElseThrow().getQuantity()).isEqualTo(98);
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getPoint())
+            .isEqualTo(10_000_000 - 20000);
+    }
+
+    @Test
+    @DisplayName("POST /api/orders - 같은 Idempotency-Key를 다른 요청에 재사용하면 422를 반환하고 주문하지 않는다")
+    void createOrderWithReusedIdempotencyKeyRejected() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + token)
+                .header("Idempotency-Key", "reused-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new OrderRequest(option.getId(), 2, "처음"))))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + token)
+                .header("Idempotency-Key", "reused-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new OrderRequest(option.getId(), 5, "처음"))))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+
+        assertThat(optionRepository.findById(option.getId()).orElseThrow().getQuantity()).isEqualTo(98);
+    }
+
+    @Test
+    @DisplayName("POST /api/orders - 다른 Idempotency-Key는 별개의 주문으로 처리된다")
+    void createOrderWithDifferentIdempotencyKeys() throws Exception {
+        var body = objectMapper.writeValueAsString(new OrderRequest(option.getId(), 1, null));
+
+        for (var key : List.of("key-a", "key-b")) {
+            mockMvc.perform(post("/api/orders")
+                    .header("Authorization", "Bearer " + token)
+                    .header("Idempotency-Key", key)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        }
+
+        assertThat(optionRepository.findById(option.getId()).orElseThrow().getQuantity()).isEqualTo(98);
+    }
+
+    @Test
+    @DisplayName("GET /api/orders?after= - 커서를 따라가면 모든 주문을 중복 없이 최신순으로 조회한다")
+    void getOrdersWithCursor() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(new Order(option, member.getId(), 1, "주문" + i));
+        }
+
+        var seen = new ArrayList<Long>();
+        var cursor = "";
+        do {
+            var result = mockMvc.perform(get("/api/orders")
+                    .header("Authorization", "Bearer " + token)
+                    .param("after", cursor)
+                    .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn();
+            var page = objectMapper.readTree(result.getResponse().getContentAsString());
+            page.get("content").forEach(order -> seen.add(order.get("id").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("GET /api/orders?after= - 잘못된 커서는 400을 반환한다")
+    void getOrdersWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/orders")
+                .header("Authorization", "Bearer " + token)
+                .param("after", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,40 @@
+package gift.order;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderIdempotencyStoreTest {
+
+    @Test
+    @DisplayName("멱등 키 유니크 제약 위반만 동시 중복 요청으로 본다")
+    void detectsOnlyIdempotencyKeyViolations() {
+        var duplicateKey = violation("PUBLIC.UK_ORDER_IDEMPOTENCY_MEMBER_KEY_INDEX_4");
+        var otherConstraint = violation("PUBLIC.CONSTRAINT_8B");
+
+        assertThat(OrderIdempotencyStore.isDuplicateKey(duplicateKey)).isTrue();
+        assertThat(OrderIdempotencyStore.isDuplicateKey(otherConstraint)).isFalse();
+    }
+
+    @Test
+    @DisplayName("제약 이름을 추출하지 못해도 드라이버 메시지에 멱등 키 제약이 있으면 중복 요청으로 본다")
+    void fallsBackToDriverMessage() {
+        var duplicateKey = new DataIntegrityViolationException("could not execute statement", new SQLException(
+            "Duplicate entry '1-key' for key 'order_idempotency_key.uk_order_idempotency_member_key'"));
+        var notNull = new DataIntegrityViolationException("could not execute statement", new SQLException(
+            "Column 'message' cannot be null"));
+
+        assertThat(OrderIdempotencyStore.isDuplicateKey(duplicateKey)).isTrue();
+        assertThat(OrderIdempotencyStore.isDuplicateKey(notNull)).isFalse();
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", new SQLException("violation"), constraintName));
+    }
+}
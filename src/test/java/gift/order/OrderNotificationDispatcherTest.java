@@ -0,0 +1,164 @@
+package gift.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.category.Category;
+import gift.category.CategoryRepository;
+import gift.member.Member;
+import gift.member.MemberRepository;
+import gift.option.Option;
+import gift.option.OptionRepository;
+import gift.product.Product;
+import gift.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Transactional
+class OrderNotificationDispatcherTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderNotificationDispatcher dispatcher;
+
+    @Autowired
+    private OrderNotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private KakaoMessageClient kakaoMessageClient;
+
+    private Member member;
+    private Option option;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("outbox-test@example.com", "password");
+        member.chargePoint(1_000_000);
+        member.updateKakaoAccessToken("kakao-token");
+        member = memberRepository.save(member);
+
+        var category = categoryRepository.save(new Category("전자기기", "#1E90FF", "https://example.com/img.jpg", "설명"));
+        var product = productRepository.save(new Product("알림상품", 10000, "https://example.com/img.jpg", category));
+        option = optionRepository.save(new Option(product, "기본옵션", 10));
+    }
+
+    @Test
+    @DisplayName("주문을 생성하면 카카오 호출 없이 아웃박스에 알림이 기록된다")
+    void createOrderWritesOutbox() {
+        var order = orderService.createOrder(member, option.getId(), 1, "축하해");
+
+        var entries = outboxRepository.findAll();
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getOrderId()).isEqualTo(order.getId());
+        assertThat(entries.get(0).getStatus()).isEqualTo(OrderNotificationOutbox.Status.PENDING);
+        assertThat(entries.get(0).getPayload()).contains("알림상품", "기본옵션", "축하해");
+        verify(kakaoMessageClient, never()).sendToMe(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("메시지에 따옴표나 역슬래시가 있어도 알림은 올바른 JSON으로 기록된다")
+    void createOrderEscapesMessage() throws Exception {
+        orderService.createOrder(member, option.getId(), 1, "\"축하\" \\해");
+
+        var payload = objectMapper.readTree(outboxRepository.findAll().get(0).getPayload());
+        assertThat(payload.get("object_type").asText()).isEqualTo("text");
+        assertThat(payload.get("text").asText()).endsWith("💌 \"축하\" \\해");
+    }
+
+    @Test
+    @DisplayName("카카오 토큰이 없는 회원의 주문은 아웃박스에 기록되지 않는다")
+    void createOrderWithoutKakaoTokenSkipsOutbox() {
+        var plainMember = new Member("plain@example.com", "password");
+        plainMember.chargePoint(1_000_000);
+        plainMember = memberRepository.save(plainMember);
+
+        orderService.createOrder(plainMember, option.getId(), 1, null);
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("디스패처가 대기 중인 알림을 발송하면 SENT 상태가 된다")
+    void dispatchSendsPending() {
+        orderService.createOrder(member, option.getId(), 2, null);
+
+        int processed = dispatcher.dispatchPending();
+
+        assertThat(processed).isEqualTo(1);
+        verify(kakaoMessageClient).sendToMe(eq("kakao-token"), contains("알림상품"));
+        var entry = outboxRepository.findAll().get(0);
+        assertThat(entry.getStatus()).isEqualTo(OrderNotificationOutbox.Status.SENT);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(dispatcher.stats().pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 선점한 알림은 발송하지 않는다")
+    void dispatchSkipsRowsClaimedElsewhere() {
+        orderService.createOrder(member, option.getId(), 1, null);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = outboxRepository.findDueIds(OrderNotificationOutbox.Status.PENDING, now, Limit.of(10));
+        outboxRepository.claim(due, OrderNotificationOutbox.Status.PENDING, now, "other-instance", now.plusMinutes(5));
+
+        assertThat(dispatcher.dispatchPending()).isZero();
+
+        verify(kakaoMessageClient, never()).sendToMe(anyString(), anyString());
+        var entry = outboxRepository.findAll().get(0);
+        assertThat(entry.getStatus()).isEqualTo(OrderNotificationOutbox.Status.PENDING);
+        assertThat(entry.getClaimToken()).isEqualTo("other-instance");
+        assertThat(entry.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 백오프 후 재시도하도록 PENDING 상태로 남는다")
+    void dispatchFailureSchedulesRetry() {
+        doThrow(new IllegalStateException("kakao down")).when(kakaoMessageClient).sendToMe(anyString(), anyString());
+        orderService.createOrder(member, option.getId(), 1, null);
+
+        dispatcher.dispatchPending();
+
+        var entry = outboxRepository.findAll().get(0);
+        assertThat(entry.getStatus()).isEqualTo(OrderNotificationOutbox.Status.PENDING);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getLastError()).contains("kakao down");
+        assertThat(entry.getNextAttemptAt()).isAfter(entry.getCreatedAt());
+        assertThat(dispatcher.dispatchPending()).isZero();
+
+        var stats = dispatcher.stats();
+        assertThat(stats.pending()).isEqualTo(1);
+        assertThat(stats.lagMillis()).isGreaterThanOrEqualTo(0);
+    }
+}
@@ -0,0 +1,67 @@
+package gift.popularity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TrendingWindowTest {
+
+    @Test
+    @DisplayName("이벤트 수가 많은 상품부터, 같으면 상품 id 순으로 정렬된다")
+    void ranksByCount() {
+        var window = new TrendingWindow(60, 10);
+        window.record(0, 2L, "텀블러", 1);
+        window.record(0, 1L, "머그컵", 1);
+        window.record(1, 3L, "에어팟", 1);
+        window.record(1, 3L, "에어팟", 1);
+
+        assertThat(window.top(1, 10))
+            .extracting(TrendingProduct::productId, TrendingProduct::count)
+            .containsExactly(
+                tuple(3L, 2L),
+                tuple(1L, 1L),
+                tuple(2L, 1L)
+            );
+    }
+
+    @Test
+    @DisplayName("상위 N개만 유지하고, 밖에 있던 상품이 추월하면 교체된다")
+    void keepsTopN() {
+        var window = new TrendingWindow(60, 2);
+        window.record(0, 1L, "A", 3);
+        window.record(0, 2L, "B", 2);
+        window.record(0, 3L, "C", 1);
+        assertThat(window.top(0, 10)).extracting(TrendingProduct::productId).containsExactly(1L, 2L);
+
+        window.record(0, 3L, "C", 5);
+
+        assertThat(window.top(0, 10)).extracting(TrendingProduct::productId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 버킷의 이벤트는 빠지고 순위가 다시 계산된다")
+    void expiresOldBuckets() {
+        var window = new TrendingWindow(3, 2);
+        window.record(0, 1L, "A", 5);
+        window.record(1, 2L, "B", 2);
+        window.record(2, 3L, "C", 1);
+        assertThat(window.top(2, 10)).extracting(TrendingProduct::productId).containsExactly(1L, 2L);
+
+        // bucket 3 reuses bucket 0's slot, so product 1 drops out and product 3 moves up
+        assertThat(window.top(3, 10)).extracting(TrendingProduct::productId).containsExactly(2L, 3L);
+        assertThat(window.top(100, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼만 반환한다")
+    void limitsResult() {
+        var window = new TrendingWindow(60, 10);
+        for (long id = 1; id <= 5; id++) {
+            window.record(0, id, "상품" + id, id);
+        }
+
+        assertThat(window.top(0, 3)).extracting(TrendingProduct::productId).containsExactly(5L, 4L, 3L);
+    }
+}
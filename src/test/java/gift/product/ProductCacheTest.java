@@ -0,0 +1,81 @@
+package gift.product;
+
+import gift.category.Category;
+import gift.category.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ProductCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        productService.evictAll();
+        category = categoryRepository.save(new Category("캐시", "#000000", "https://example.com/img.jpg", null));
+    }
+
+    @Test
+    @DisplayName("같은 상품을 다시 조회하면 캐시에서 반환한다")
+    void findByIdIsCached() {
+        var saved = productService.create("캐시상품", 1000, "https://example.com/img.jpg", category.getId());
+        var before = productService.cacheStats().products();
+
+        var first = productService.findById(saved.getId());
+        var second = productService.findById(saved.getId());
+
+        var after = productService.cacheStats().products();
+        assertThat(second).isSameAs(first);
+        assertThat(after.misses() - before.misses()).isEqualTo(1);
+        assertThat(after.hits() - before.hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품을 수정하면 캐시가 무효화되어 변경된 값을 반환한다")
+    void updateInvalidates() {
+        var saved = productService.create("수정전", 1000, "https://example.com/img.jpg", category.getId());
+        productService.findById(saved.getId());
+
+        productService.update(saved.getId(), "수정후", 2000, "https://example.com/img.jpg", category.getId());
+
+        assertThat(productService.findById(saved.getId()).name()).isEqualTo("수정후");
+    }
+
+    @Test
+    @DisplayName("상품을 생성하면 캐시된 목록 페이지가 무효화된다")
+    void createInvalidatesPages() {
+        var pageable = PageRequest.of(0, 1000);
+        var before = productService.findAll(pageable).getTotalElements();
+
+        productService.create("새상품", 1000, "https://example.com/img.jpg", category.getId());
+
+        assertThat(productService.findAll(pageable).getTotalElements()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("앞쪽 페이지는 캐시에서 반환한다")
+    void firstPagesAreCached() {
+        var pageable = PageRequest.of(0, 10);
+
+        var first = productService.findAll(pageable);
+        var second = productService.findAll(pageable);
+
+        assertThat(second).isSameAs(first);
+        assertThat(productService.cacheStats().pages().hits()).isGreaterThanOrEqualTo(1);
+    }
+}
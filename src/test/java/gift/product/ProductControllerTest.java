@@ -3,12 +3,14 @@ package gift.product;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gift.category.Category;
 import gift.category.CategoryRepository;
+import gift.popularity.PopularityTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +19,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +40,12 @@ class ProductControllerTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PopularityTracker popularityTracker;
+
     private Category category;
 
     @BeforeEach
@@ -54,6 +63,78 @@ class ProductControllerTest {
             .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    @DisplayName("GET /api/products - 카테고리와 가격 범위로 필터링한다")
+    void getProductsFiltered() throws Exception {
+        var other = categoryRepository.save(new Category("식품", "#00FF00", "https://example.com/img.jpg", "설명"));
+        productRepository.save(new Product("저가상품", 5000, "https://example.com/img.jpg", category));
+        productRepository.save(new Product("중가상품", 20000, "https://example.com/img.jpg", category));
+        productRepository.save(new Product("고가상품", 200000, "https://example.com/img.jpg", category));
+        productRepository.save(new Product("다른상품", 20000, "https://example.com/img.jpg", other));
+
+        mockMvc.perform(get("/api/products")
+                .param("categoryId", category.getId().toString())
+                .param("minPrice", "10000")
+                .param("maxPrice", "100000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].name").value("중가상품"));
+    }
+
+    @Test
+    @DisplayName("GET /api/products - facets=true이면 카테고리별, 가격대별 개수를 함께 반환한다")
+    void getProductsWithFacets() throws Exception {
+        var other = categoryRepository.save(new Category("식품", "#00FF00", "https://example.com/img.jpg", "설명"));
+        productRepository.save(new Product("저가상품", 5000, "https://example.com/img.jpg", category));
+        productRepository.save(new Product("중가상품", 20000, "https://example.com/img.jpg", category));
+        productRepository.save(new Product("다른상품", 20000, "https://example.com/img.jpg", other));
+
+        mockMvc.perform(get("/api/products")
+                .param("categoryId", category.getId().toString())
+                .param("minPrice", "10000")
+                .param("maxPrice", "29999")
+                .param("facets", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].name").value("중가상품"))
+            .andExpect(jsonPath("$.page.totalElements").value(1))
+            .andExpect(jsonPath("$.facets.categories[?(@.categoryId == %d)].count", category.getId()).value(1))
+            .andExpect(jsonPath("$.facets.categories[?(@.categoryId == %d)].count", other.getId()).value(1))
+            .andExpect(jsonPath("$.facets.priceBuckets[0].count").value(1))
+            .andExpect(jsonPath("$.facets.priceBuckets[1].count").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/products - 최소 가격이 최대 가격보다 크면 400을 반환한다")
+    void getProductsWithInvalidPriceRange() throws Exception {
+        mockMvc.perform(get("/api/products").param("minPrice", "10000").param("maxPrice", "5000"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/products?sortBy=popularity - 조회수가 반영된 인기순으로 정렬한다")
+    void getProductsByPopularity() throws Exception {
+        var quiet = productRepository.save(new Product("조용한상품", 10000, "https://example.com/img.jpg", category));
+        var popular = productRepository.save(new Product("인기상품", 10000, "https://example.com/img.jpg", category));
+        mockMvc.perform(get("/api/products/" + popular.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/" + popular.getId())).andExpect(status().isOk());
+
+        popularityTracker.flush();
+
+        mockMvc.perform(get("/api/products")
+                .param("categoryId", String.valueOf(category.getId()))
+                .param("sortBy", "popularity"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(popular.getId()))
+            .andExpect(jsonPath("$.content[1].id").value(quiet.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /api/products - 지원하지 않는 sortBy는 400을 반환한다")
+    void getProductsWithUnknownSort() throws Exception {
+        mockMvc.perform(get("/api/products").param("sortBy", "rating"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/products/{id} - 단일 상품을 조회한다")
     void getProduct() throws Exception {
@@ -65,11 +146,87 @@ class ProductControllerTest {
             .andExpect(jsonPath("$.price").value(10000));
     }
 
+    @Test
+    @DisplayName("GET /api/products/{id} - If-None-Match가 현재 ETag와 같으면 304를 반환한다")
+    void getProductNotModified() throws Exception {
+        var saved = productRepository.save(new Product("테스트상품", 10000, "https://example.com/img.jpg", category));
+        String etag = mockMvc.perform(get("/api/products/" + saved.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/products/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id} - 상품이 수정되면 이전 ETag로 변경된 본문을 받는다")
+    void getProductModifiedAfterUpdate() throws Exception {
+        var saved = productRepository.save(new Product("원본상품", 10000, "https://example.com/img.jpg", category));
+        String etag = mockMvc.perform(get("/api/products/" + saved.getId()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        var request = new ProductRequest("수정상품", 20000, "https://example.com/img.jpg", category.getId());
+        mockMvc.perform(put("/api/products/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/products/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("수정상품"));
+    }
+
+    @Test
+    @DisplayName("GET /api/products - 목록이 바뀌지 않았으면 304를 반환하고 상품이 추가되면 200을 반환한다")
+    void getProductsConditional() throws Exception {
+        productRepository.save(new Product("테스트상품", 10000, "https://example.com/img.jpg", category));
+        String etag = mockMvc.perform(get("/api/products").param("page", "0").param("size", "10"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/products").param("page", "0").param("size", "10")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        productRepository.save(new Product("추가상품", 10000, "https://example.com/img.jpg", category));
+        mockMvc.perform(get("/api/products").param("page", "0").param("size", "10")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/search - 이름의 일부로 상품을 검색한다")
+    void searchProducts() throws Exception {
+        // drop entries left by other tests' rolled-back products
+        productService.rebuildSearchIndex();
+        for (String name : new String[]{"아이스 아메리카노", "아메리카노", "카페라떼"}) {
+            var request = new ProductRequest(name, 4500, "https://example.com/img.jpg", category.getId());
+            mockMvc.perform(post("/api/products")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/products/search").param("q", "아메리카노"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].name").value("아메리카노"))
+            .andExpect(jsonPath("$.content[1].name").value("아이스 아메리카노"));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/search - 검색어에 글자가 없으면 400을 반환한다")
+    void searchProductsWithBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/products/search").param("q", "  "))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/products/{id} - 존재하지 않는 상품을 조회하면 404를 반환한다")
     void getProductNotFound() throws Exception {
         mockMvc.perform(get("/api/products/999999"))
-            .andExpect(status().isNotFound());
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.code").value("PRODUCT_NOT_FOUND"));
     }
 
     @Test
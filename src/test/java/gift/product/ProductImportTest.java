@@ -0,0 +1,127 @@
+package gift.product;
+
+import gift.category.Category;
+import gift.category.CategoryRepository;
+import gift.option.OptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "product.import.batch-size=2")
+@AutoConfigureMockMvc
+@Transactional
+class ProductImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(new Category("가져오기", "#000000", "https://example.com/img.jpg", "설명"));
+    }
+
+    @Test
+    @DisplayName("CSV를 가져오면 유효한 행은 옵션과 함께 저장하고 잘못된 행은 줄 번호와 함께 보고한다")
+    void importCsv() throws Exception {
+        String csv = """
+            name,price,imageUrl,categoryId,options
+            가져온상품1,1000,https://example.com/1.jpg,%1$d,기본:10|대용량:5
+            "가져온상품2",2000,https://example.com/2.jpg,%1$d,기본:3
+            카카오상품,3000,https://example.com/3.jpg,%1$d,기본:1
+            가져온상품4,4000,https://example.com/4.jpg,999999,기본:1
+            가져온상품5,5000,https://example.com/5.jpg,%1$d,
+            가져온상품6,6000,https://example.com/6.jpg,%1$d,기본:7
+            """.formatted(category.getId());
+        long productsBefore = productRepository.count();
+
+        mockMvc.perform(post("/admin/products/import")
+                .contentType("text/csv")
+                .content(csv.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalRows").value(6))
+            .andExpect(jsonPath("$.importedProducts").value(3))
+            .andExpect(jsonPath("$.importedOptions").value(4))
+            .andExpect(jsonPath("$.failedRows").value(3))
+            .andExpect(jsonPath("$.errors[0].line").value(4))
+            .andExpect(jsonPath("$.errors[1].line").value(5))
+            .andExpect(jsonPath("$.errors[2].line").value(6));
+
+        assertThat(productRepository.count()).isEqualTo(productsBefore + 3);
+        var imported = productRepository.findAll().stream()
+            .filter(product -> product.getName().equals("가져온상품1"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(optionRepository.findByProductId(imported.getId())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("JSONL을 가져오면 잘못된 JSON 행을 건너뛰고 나머지를 저장한다")
+    void importJsonLines() throws Exception {
+        String jsonl = """
+            {"name": "제이슨상품", "price": 1000, "imageUrl": "https://example.com/1.jpg", "categoryId": %1$d, "options": [{"name": "기본", "quantity": 1}]}
+            {"name": "깨진행"
+            {"name": "중복옵션", "price": 1000, "imageUrl": "https://example.com/1.jpg", "categoryId": %1$d, "options": [{"name": "A", "quantity": 1}, {"name": "A", "quantity": 2}]}
+            """.formatted(category.getId());
+
+        mockMvc.perform(post("/admin/products/import")
+                .contentType("application/x-ndjson")
+                .content(jsonl.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.importedProducts").value(1))
+            .andExpect(jsonPath("$.failedRows").value(2));
+    }
+
+    @Test
+    @DisplayName("JSONL의 null 행과 null 옵션은 행 오류로 보고하고 가져오기를 계속한다")
+    void importJsonLinesWithNulls() throws Exception {
+        String jsonl = """
+            {"name": "앞상품1", "price": 1000, "imageUrl": "https://example.com/1.jpg", "categoryId": %1$d, "options": [{"name": "기본", "quantity": 1}]}
+            {"name": "앞상품2", "price": 1000, "imageUrl": "https://example.com/1.jpg", "categoryId": %1$d, "options": [{"name": "기본", "quantity": 1}]}
+            null
+            {"name": "널옵션", "price": 1000, "imageUrl": "https://example.com/1.jpg", "categoryId": %1$d, "options": [null]}
+            {"name": "뒷상품", "price": 1000, "imageUrl": "https://example.com/1.jpg", "categoryId": %1$d, "options": [{"name": "기본", "quantity": 1}]}
+            """.formatted(category.getId());
+
+        mockMvc.perform(post("/admin/products/import")
+                .contentType("application/x-ndjson")
+                .content(jsonl.getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalRows").value(5))
+            .andExpect(jsonPath("$.importedProducts").value(3))
+            .andExpect(jsonPath("$.failedRows").value(2))
+            .andExpect(jsonPath("$.errors[0].line").value(3))
+            .andExpect(jsonPath("$.errors[1].line").value(4));
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필수 열이 없으면 400을 반환한다")
+    void importCsvWithoutHeader() throws Exception {
+        mockMvc.perform(post("/admin/products/import")
+                .contentType("text/csv")
+                .content("name,price\n상품,1000\n".getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,79 @@
+package gift.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Opt-in benchmark over a generated catalog: ./gradlew test -Pbenchmark --tests '*ProductSearchIndexBenchmarkTest'
+ * Reports parallel rebuild time and per-query latency percentiles after a warm-up pass.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductSearchIndexBenchmarkTest {
+    private static final int PRODUCTS = 1_000_000;
+    private static final int QUERIES = 20_000;
+    private static final String[] WORDS = {
+        "아메리카노", "카페라떼", "케이크", "초콜릿", "딸기", "치즈", "선물세트", "향수", "립스틱", "텀블러",
+        "머그컵", "운동화", "티셔츠", "맥북", "프로", "에어팟", "충전기", "와인", "한우", "꽃다발",
+        "coffee", "gift", "set", "mini", "large", "premium", "red", "blue", "black", "white"
+    };
+
+    @Test
+    @DisplayName("백만 개 상품 인덱스의 재구성 시간과 검색 지연 시간을 측정한다")
+    void benchmark() {
+        Random random = new Random(42);
+        List<ProductSearchDocument> documents = new ArrayList<>(PRODUCTS);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            documents.add(new ProductSearchDocument(id, randomName(random)));
+        }
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            int length = Math.min(word.length(), 2 + random.nextInt(3));
+            queries[i] = word.substring(0, length);
+        }
+
+        var index = new ProductSearchIndex();
+        long rebuildStartedAt = System.nanoTime();
+        index.rebuild(() -> documents);
+        long rebuildMillis = (System.nanoTime() - rebuildStartedAt) / 1_000_000;
+        assertThat(index.size()).isEqualTo(PRODUCTS);
+
+        for (String query : queries) {
+            index.search(query, 0, 20);
+        }
+        long[] latencies = new long[QUERIES];
+        long totalHits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long startedAt = System.nanoTime();
+            totalHits += index.search(queries[i], 0, 20).total();
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf(
+            "[search-benchmark] products=%d rebuild=%dms queries=%d avgHits=%d p50=%.1fus p99=%.1fus max=%.1fus%n",
+            PRODUCTS, rebuildMillis, QUERIES, totalHits / QUERIES,
+            latencies[QUERIES / 2] / 1_000.0, latencies[QUERIES * 99 / 100] / 1_000.0, latencies[QUERIES - 1] / 1_000.0
+        );
+    }
+
+    private static String randomName(Random random) {
+        int words = 1 + random.nextInt(3);
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                name.append(' ');
+            }
+            name.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return name.append(' ').append(random.nextInt(1_000)).toString();
+    }
+}
@@ -0,0 +1,111 @@
+package gift.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    @Test
+    @DisplayName("한글 바이그램으로 이름의 일부를 검색한다")
+    void searchesKoreanSubstring() {
+        var index = new ProductSearchIndex();
+        index.put(1L, "아이스 아메리카노");
+        index.put(2L, "카페라떼");
+        index.put(3L, "아메리카노");
+
+        var hits = index.search("메리카", 0, 10);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.productIds()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("정확히 일치하는 이름, 접두사, 부분 문자열 순으로 정렬한다")
+    void ranksExactThenPrefixThenSubstring() {
+        var index = new ProductSearchIndex();
+        index.put(1L, "Apple Pie");
+        index.put(2L, "Pineapple");
+        index.put(3L, "apple");
+        index.put(4L, "Apple Juice Large");
+
+        var hits = index.search("APPLE", 0, 10);
+
+        assertThat(hits.productIds()).containsExactly(3L, 1L, 4L, 2L);
+    }
+
+    @Test
+    @DisplayName("공백과 구분 문자를 무시하고 검색한다")
+    void ignoresSeparators() {
+        var index = new ProductSearchIndex();
+        index.put(1L, "맥북 프로 (14)");
+
+        assertThat(index.search("맥북프로", 0, 10).productIds()).containsExactly(1L);
+        assertThat(index.search("프로14", 0, 10).productIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정과 삭제가 즉시 반영된다")
+    void reflectsUpdatesAndRemovals() {
+        var index = new ProductSearchIndex();
+        index.put(1L, "초코케이크");
+        index.put(2L, "치즈케이크");
+
+        index.put(1L, "딸기타르트");
+        index.remove(2L);
+
+        assertThat(index.search("케이크", 0, 10).total()).isZero();
+        assertThat(index.search("타르트", 0, 10).productIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결과를 페이지 단위로 나누어 반환한다")
+    void pagesResults() {
+        var index = new ProductSearchIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.put(id, "선물세트" + id);
+        }
+
+        var hits = index.search("선물", 20, 10);
+
+        assertThat(hits.total()).isEqualTo(25);
+        assertThat(hits.productIds()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 변경은 새 인덱스에 다시 적용된다")
+    void rebuildReplaysConcurrentChanges() {
+        var index = new ProductSearchIndex();
+        index.rebuild(() -> {
+            List<ProductSearchDocument> documents = new ArrayList<>();
+            documents.add(new ProductSearchDocument(1L, "녹차라떼"));
+            documents.add(new ProductSearchDocument(2L, "홍차라떼"));
+            index.put(3L, "말차라떼");
+            index.remove(2L);
+            return documents;
+        });
+
+        assertThat(index.search("라떼", 0, 10).productIds()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("삭제가 누적되면 인덱스를 압축해도 검색 결과가 유지된다")
+    void compactsAfterManyRemovals() {
+        var index = new ProductSearchIndex();
+        for (long id = 1; id <= 2_000; id++) {
+            index.put(id, "상품" + id);
+        }
+        for (long id = 1; id <= 1_000; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(1_000);
+        assertThat(index.search("상품1500", 0, 10).productIds()).containsExactly(1500L);
+        assertThat(index.search("상품", 0, 10).total()).isEqualTo(1_000);
+    }
+}
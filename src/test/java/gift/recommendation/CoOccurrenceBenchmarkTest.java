@@ -0,0 +1,65 @@
+package gift.recommendation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Opt-in benchmark over synthetic order history: ./gradlew test -Pbenchmark --tests '*CoOccurrenceBenchmarkTest'
+ * 10M orders from 2M members over 100k products with a skewed popularity, reduced to distinct
+ * (member, product) pairs as the rebuild query does, then built in parallel.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CoOccurrenceBenchmarkTest {
+    private static final int ORDERS = 10_000_000;
+    private static final int MEMBERS = 2_000_000;
+    private static final int PRODUCTS = 100_000;
+
+    @Test
+    @DisplayName("천만 건 주문으로 동시 구매 행렬을 병렬 재구성하는 시간을 측정한다")
+    void benchmark() {
+        Random random = new Random(42);
+        long[] packed = new long[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            long member = 1 + random.nextInt(MEMBERS);
+            // squaring a uniform draw skews orders toward low product ids
+            double draw = random.nextDouble();
+            long product = 1 + (long) (draw * draw * PRODUCTS);
+            packed[i] = (member << 20) | product;
+        }
+        Arrays.parallelSort(packed);
+        long[] members = new long[ORDERS];
+        long[] products = new long[ORDERS];
+        int size = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            if (i > 0 && packed[i] == packed[i - 1]) {
+                continue;
+            }
+            members[size] = packed[i] >>> 20;
+            products[size] = packed[i] & 0xFFFFF;
+            size++;
+        }
+
+        long startedAt = System.nanoTime();
+        var matrix = CoOccurrenceMatrix.build(members, products, size);
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        assertThat(matrix.productCount()).isPositive();
+
+        int queries = 100_000;
+        startedAt = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            matrix.top(1 + random.nextInt(PRODUCTS), 10);
+        }
+        double queryMicros = (System.nanoTime() - startedAt) / 1_000.0 / queries;
+
+        System.out.printf(
+            "[co-occurrence-benchmark] orders=%d pairs=%d products=%d cells=%d build=%dms top10=%.1fus%n",
+            ORDERS, size, matrix.productCount(), matrix.pairCount(), buildMillis, queryMicros
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package gift.recommendation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    @DisplayName("같은 회원이 주문한 상품 쌍의 수로 연관 상품을 정렬한다")
+    void ranksByMembersInCommon() {
+        // member 1: {10, 20, 30}, member 2: {10, 20}, member 3: {10, 40}
+        long[] members = {1, 1, 1, 2, 2, 3, 3};
+        long[] products = {10, 20, 30, 10, 20, 10, 40};
+
+        var matrix = CoOccurrenceMatrix.build(members, products, members.length);
+
+        long[][] top = matrix.top(10, 10);
+        assertThat(top[0]).containsExactly(20, 30, 40);
+        assertThat(top[1]).containsExactly(2, 1, 1);
+        assertThat(matrix.pairCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("증분 반영 결과가 전체 재구성 결과와 같다")
+    void incrementalMatchesRebuild() {
+        Random random = new Random(7);
+        var incremental = CoOccurrenceMatrix.empty();
+        Set<Long> changed = new HashSet<>();
+        TreeSet<long[]> pairs = new TreeSet<>((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        for (int i = 0; i < 5_000; i++) {
+            long member = 1 + random.nextInt(300);
+            long product = 1 + random.nextInt(80);
+            incremental.recordOrder(member, product, changed::add);
+            pairs.add(new long[]{member, product});
+        }
+        long[] members = pairs.stream().mapToLong(pair -> pair[0]).toArray();
+        long[] products = pairs.stream().mapToLong(pair -> pair[1]).toArray();
+
+        var rebuilt = CoOccurrenceMatrix.build(members, products, members.length);
+
+        assertThat(incremental.pairCount()).isEqualTo(rebuilt.pairCount());
+        for (long product = 1; product <= 80; product++) {
+            assertThat(incremental.top(product, 5)).isDeepEqualTo(rebuilt.top(product, 5));
+        }
+    }
+
+    @Test
+    @DisplayName("이미 주문한 상품을 다시 주문하면 아무 행도 바뀌지 않는다")
+    void repeatOrderChangesNothing() {
+        var matrix = CoOccurrenceMatrix.empty();
+        matrix.recordOrder(1, 10, id -> { });
+        matrix.recordOrder(1, 20, id -> { });
+        Set<Long> changed = new HashSet<>();
+
+        matrix.recordOrder(1, 20, changed::add);
+
+        assertThat(changed).isEmpty();
+        assertThat(matrix.top(20, 10)[1]).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("원시 해시 맵은 확장 후에도 모든 값을 유지한다")
+    void longIntHashMapGrows() {
+        var map = new LongIntHashMap();
+        for (long key = 0; key < 10_000; key++) {
+            map.addTo(key * 7919, (int) key);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.get(0)).isZero();
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.get(9_999L * 7919)).isEqualTo(9_999);
+        assertThat(map.get(-1)).isZero();
+    }
+}
@@ -0,0 +1,51 @@
+package gift.recommendation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WishSimilarityTest {
+
+    @Test
+    @DisplayName("찜한 회원 벡터의 코사인 유사도로 이웃 상품을 정렬한다")
+    void ranksByCosine() {
+        // member 1: {10, 20}, member 2: {10, 20, 30}, member 3: {10, 40}, member 4: {40}
+        long[] members = {1, 1, 2, 2, 2, 3, 3, 4};
+        long[] products = {10, 20, 10, 20, 30, 10, 40, 40};
+
+        var similarity = WishSimilarity.compute(members, products, members.length, 10);
+
+        int product10 = 0;
+        assertThat(similarity.productId(product10)).isEqualTo(10);
+        assertThat(similarity.neighbourCount(product10)).isEqualTo(3);
+        // 10 = {1,2,3}, 20 = {1,2}, 30 = {2}, 40 = {3,4}
+        assertThat(similarity.neighbourId(product10, 0)).isEqualTo(20);
+        assertThat(similarity.score(product10, 0)).isCloseTo((float) (2 / Math.sqrt(3 * 2)), within(1e-6f));
+        assertThat(similarity.neighbourId(product10, 1)).isEqualTo(30);
+        assertThat(similarity.neighbourId(product10, 2)).isEqualTo(40);
+        assertThat(similarity.score(product10, 1)).isGreaterThan(similarity.score(product10, 2));
+    }
+
+    @Test
+    @DisplayName("이웃은 최대 k개까지만 남는다")
+    void keepsTopK() {
+        long[] members = {1, 1, 1, 1};
+        long[] products = {1, 2, 3, 4};
+
+        var similarity = WishSimilarity.compute(members, products, members.length, 2);
+
+        assertThat(similarity.neighbourCount(0)).isEqualTo(2);
+        assertThat(similarity.neighbourId(0, 0)).isEqualTo(2);
+        assertThat(similarity.neighbourId(0, 1)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("찜이 하나도 없으면 빈 결과를 만든다")
+    void emptyInput() {
+        var similarity = WishSimilarity.compute(new long[0], new long[0], 0, 10);
+
+        assertThat(similarity.productCount()).isZero();
+    }
+}
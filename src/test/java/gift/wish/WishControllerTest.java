@@ -57,7 +57,7 @@ class WishControllerTest {
     @BeforeEach
     void setUp() {
         member = memberRepository.save(new Member("wish-test@example.com", "password"));
-        token = jwtProvider.createToken(member.getEmail());
+        token = jwtProvider.createToken(member.getId(), member.getTokenVersion());
 
         var category = categoryRepository.save(new Category("테스트", "#FF0000", "https://example.com/img.jpg", "설명"));
         product = productRepository.save(new Product("위시상품", 10000, "https://example.com/img.jpg", category));
@@ -1,2 +1,2 @@
-INSERT INTO category (id, name, color, image_url, description) VALUES (1, '음료', '#8B4513', 'https://example.com/images/drink.jpg', '커피, 주스 등 음료');
-INSERT INTO category (id, name, color, image_url, description) VALUES (2, '디저트', '#FFD700', 'https://example.com/images/dessert.jpg', '케이크, 쿠키 등 디저트');
+INSERT INTO category (id, name, color, image_url, description, version) VALUES (1, '음료', '#8B4513', 'https://example.com/images/drink.jpg', '커피, 주스 등 음료', 0);
+INSERT INTO category (id, name, color, image_url, description, version) VALUES (2, '디저트', '#FFD700', 'https://example.com/images/dessert.jpg', '케이크, 쿠키 등 디저트', 0);
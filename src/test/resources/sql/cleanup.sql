@@ -1,13 +1,19 @@
+DELETE FROM order_notification_outbox;
+DELETE FROM order_idempotency_key;
 DELETE FROM orders;
 DELETE FROM wish;
 DELETE FROM options;
+DELETE FROM product_stats;
+DELETE FROM product_similarity;
 DELETE FROM product;
+DELETE FROM point_transaction;
 DELETE FROM member;
 DELETE FROM category;
+DELETE FROM catalog_version;
 
-ALTER TABLE orders ALTER COLUMN id RESTART WITH 1;
-ALTER TABLE wish ALTER COLUMN id RESTART WITH 1;
-ALTER TABLE options ALTER COLUMN id RESTART WITH 1;
+ALTER TABLE order_notification_outbox ALTER COLUMN id RESTART WITH 1;
+ALTER TABLE order_idempotency_key ALTER COLUMN id RESTART WITH 1;
 ALTER TABLE product ALTER COLUMN id RESTART WITH 1;
+ALTER TABLE point_transaction ALTER COLUMN id RESTART WITH 1;
 ALTER TABLE member ALTER COLUMN id RESTART WITH 1;
 ALTER TABLE category ALTER COLUMN id RESTART WITH 1;
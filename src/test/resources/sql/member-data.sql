@@ -1,2 +1,2 @@
-INSERT INTO member (id, email, password, point) VALUES (1, 'sender@test.com', 'password', 1000000);
-INSERT INTO member (id, email, password, point) VALUES (2, 'receiver@test.com', 'password', 1000000);
+INSERT INTO member (id, email, password, point, token_version) VALUES (1, 'sender@test.com', 'password', 1000000, 0);
+INSERT INTO member (id, email, password, point, token_version) VALUES (2, 'receiver@test.com', 'password', 1000000, 0);
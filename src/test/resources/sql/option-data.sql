@@ -1 +1 @@
-INSERT INTO options (id, product_id, name, quantity) VALUES (1, 1, 'Tall', 10);
+INSERT INTO options (id, product_id, name, quantity, version) VALUES (1, 1, 'Tall', 10, 0);
@@ -1 +1 @@
-INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '아메리카노', 4500, 'https://example.com/img.jpg', 1);
+INSERT INTO product (id, name, price, image_url, category_id, version) VALUES (1, '아메리카노', 4500, 'https://example.com/img.jpg', 1, 0);